@@ -0,0 +1,13 @@
+package com.internship.taskmanager.application.event;
+
+import java.time.Instant;
+
+/**
+ * Domain event: a project was (soft) deleted. Deletes are final, so the project can never reappear.
+ */
+public record ProjectDeletedEvent(Long ownerId, Long projectId, Instant occurredAt) {
+
+    public static ProjectDeletedEvent of(Long ownerId, Long projectId) {
+        return new ProjectDeletedEvent(ownerId, projectId, Instant.now());
+    }
+}
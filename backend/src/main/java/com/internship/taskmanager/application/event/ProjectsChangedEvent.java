@@ -0,0 +1,22 @@
+package com.internship.taskmanager.application.event;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Domain event: projects or their tasks were written (created, edited, completed, moved between
+ * statuses, deleted tasks, recounted). Listeners re-read the projects instead of replaying deltas,
+ * so one event covers any mix of single and bulk writes.
+ */
+public record ProjectsChangedEvent(Collection<Long> projectIds, Instant occurredAt) {
+
+    public static ProjectsChangedEvent of(Long projectId) {
+        return new ProjectsChangedEvent(Collections.singletonList(projectId), Instant.now());
+    }
+
+    public static ProjectsChangedEvent of(Collection<Long> projectIds) {
+        return new ProjectsChangedEvent(List.copyOf(projectIds), Instant.now());
+    }
+}
@@ -0,0 +1,132 @@
+package com.internship.taskmanager.application.job;
+
+import com.internship.taskmanager.common.cache.EntityCacheEvictionEvent;
+import com.internship.taskmanager.domain.entity.Project;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Physically removes soft-deleted projects.
+ * Tasks are deleted in bounded set-based chunks, each statement committing on its own,
+ * so no lock is held for long and no task is ever loaded into memory.
+ * Projects are only picked up once their deletion is {@code min-age} old, so writers that
+ * passed their ownership check just before the delete have finished; a project that still
+ * fails is logged, counted and retried on the next run without holding up the others.
+ */
+@Component
+public class ProjectPurgeJob {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectPurgeJob.class);
+
+    private static final String FIND_DELETED_PROJECTS =
+            "SELECT id FROM projects WHERE deleted_at IS NOT NULL AND deleted_at <= ? " +
+            "ORDER BY deleted_at, id FETCH FIRST ? ROWS ONLY";
+
+    private static final String DELETE_TASK_CHUNK =
+            "DELETE FROM tasks WHERE id IN " +
+            "(SELECT id FROM tasks WHERE project_id = ? ORDER BY id FETCH FIRST ? ROWS ONLY)";
+
+    private static final String DELETE_PROJECT =
+            "DELETE FROM projects WHERE id = ? AND deleted_at IS NOT NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher events;
+    private final int chunkSize;
+    private final int projectsPerRun;
+    private final Duration minAge;
+    private final Counter purgedTasks;
+    private final Counter purgedProjects;
+    private final Counter failedProjects;
+    private final Timer projectPurgeTimer;
+
+    public ProjectPurgeJob(
+            JdbcTemplate jdbcTemplate,
+            ApplicationEventPublisher events,
+            MeterRegistry meterRegistry,
+            @Value("${taskmanager.purge.chunk-size:1000}") int chunkSize,
+            @Value("${taskmanager.purge.projects-per-run:10}") int projectsPerRun,
+            @Value("${taskmanager.purge.min-age:PT5M}") Duration minAge
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.events = events;
+        this.chunkSize = chunkSize;
+        this.projectsPerRun = projectsPerRun;
+        this.minAge = minAge;
+        this.purgedTasks = Counter.builder("projects.purge.tasks")
+                .description("Tasks physically deleted by the project purger")
+                .register(meterRegistry);
+        this.purgedProjects = Counter.builder("projects.purge.projects")
+                .description("Soft-deleted projects physically removed")
+                .register(meterRegistry);
+        this.failedProjects = Counter.builder("projects.purge.failures")
+                .description("Project purges that failed and were left for the next run")
+                .register(meterRegistry);
+        this.projectPurgeTimer = Timer.builder("projects.purge.duration")
+                .description("Time to purge one soft-deleted project")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(
+            initialDelayString = "${taskmanager.purge.interval:PT1M}",
+            fixedDelayString = "${taskmanager.purge.interval:PT1M}"
+    )
+    public void scheduledPurge() {
+        purgeDeletedProjects();
+    }
+
+    // Returns the number of projects fully removed in this run
+    public int purgeDeletedProjects() {
+        LocalDateTime deletedBefore = LocalDateTime.now().minus(minAge);
+        List<Long> projectIds = jdbcTemplate.queryForList(
+                FIND_DELETED_PROJECTS, Long.class, deletedBefore, projectsPerRun);
+        int purged = 0;
+        for (Long projectId : projectIds) {
+            try {
+                purgeProject(projectId);
+                purged++;
+            } catch (RuntimeException ex) {
+                // One broken project must not block the ones queued behind it
+                failedProjects.increment();
+                log.warn("Purging project {} failed, retrying on the next run", projectId, ex);
+            }
+        }
+        return purged;
+    }
+
+    private void purgeProject(Long projectId) {
+        long started = System.nanoTime();
+        long deleted = 0;
+        int chunk;
+
+        do {
+            chunk = jdbcTemplate.update(DELETE_TASK_CHUNK, projectId, chunkSize);
+            deleted += chunk;
+            purgedTasks.increment(chunk);
+            if (chunk > 0) {
+                log.debug("Purging project {}: {} tasks deleted so far", projectId, deleted);
+            }
+        } while (chunk == chunkSize);
+
+        jdbcTemplate.update(DELETE_PROJECT, projectId);
+        events.publishEvent(new EntityCacheEvictionEvent(Project.class, List.of(projectId)));
+        purgedProjects.increment();
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+        projectPurgeTimer.record(elapsed);
+        double seconds = Math.max(elapsed.toNanos() / 1e9, 1e-9);
+        log.info("Purged project {}: tasks={} durationMs={} throughput={} tasks/s",
+                projectId, deleted, elapsed.toMillis(), Math.round(deleted / seconds));
+    }
+}
@@ -0,0 +1,96 @@
+package com.internship.taskmanager.application.job;
+
+import com.internship.taskmanager.application.event.ProjectsChangedEvent;
+import com.internship.taskmanager.domain.repository.ProjectCounterDrift;
+import com.internship.taskmanager.domain.repository.ProjectRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Periodically recomputes the persisted task counters of every project
+ * and reports projects whose counters drifted from the tasks table.
+ * Projects are scanned in id order, one batch per transaction.
+ */
+@Component
+public class TaskCounterReconciliationJob {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskCounterReconciliationJob.class);
+
+    private final ProjectRepository projectRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher events;
+    private final int batchSize;
+
+    public TaskCounterReconciliationJob(
+            ProjectRepository projectRepository,
+            PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher events,
+            @Value("${taskmanager.counters.reconcile-batch-size:500}") int batchSize
+    ) {
+        this.projectRepository = projectRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.events = events;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(
+            initialDelayString = "${taskmanager.counters.reconcile-interval:PT1H}",
+            fixedDelayString = "${taskmanager.counters.reconcile-interval:PT1H}"
+    )
+    public void scheduledReconcile() {
+        reconcile();
+    }
+
+    public Report reconcile() {
+        long started = System.nanoTime();
+        long scanned = 0;
+        long corrected = 0;
+        Long afterId = 0L;
+
+        while (true) {
+            List<Long> ids = projectRepository.findIdsAfter(afterId, Limit.of(batchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            corrected += transactionTemplate.execute(status -> reconcileBatch(ids));
+            scanned += ids.size();
+            afterId = ids.get(ids.size() - 1);
+        }
+
+        Report report = new Report(scanned, corrected, (System.nanoTime() - started) / 1_000_000);
+        log.info("Task counter reconciliation finished: scanned={} corrected={} durationMs={}",
+                report.scanned(), report.corrected(), report.durationMillis());
+        return report;
+    }
+
+    private long reconcileBatch(List<Long> ids) {
+        List<Long> drifted = new ArrayList<>();
+        for (ProjectCounterDrift d : projectRepository.findCounterDrift(ids)) {
+            if (d.isDrifted()) {
+                log.warn("Task counter drift on project {}: stored total={} completed={}, actual total={} completed={}",
+                        d.getProjectId(), d.getStoredTotal(), d.getStoredCompleted(),
+                        d.getActualTotal(), d.getActualCompleted());
+                drifted.add(d.getProjectId());
+            }
+        }
+
+        if (drifted.isEmpty()) {
+            return 0;
+        }
+        projectRepository.recomputeTaskCounters(drifted);
+        events.publishEvent(ProjectsChangedEvent.of(drifted));
+        return drifted.size();
+    }
+
+    public record Report(long scanned, long corrected, long durationMillis) {}
+}
@@ -0,0 +1,13 @@
+package com.internship.taskmanager.application.readmodel;
+
+import com.internship.taskmanager.domain.repository.ProjectListVersion;
+import com.internship.taskmanager.domain.repository.ProjectSummary;
+
+import java.util.List;
+
+/**
+ * A user's projects in id order, with the list version the ETag is derived from.
+ * The version is computed exactly like ProjectRepository#findListVersionByUserId.
+ */
+public record ProjectListing(List<ProjectSummary> projects, ProjectListVersion version) {
+}
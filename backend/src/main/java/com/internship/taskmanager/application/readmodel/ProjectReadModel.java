@@ -0,0 +1,268 @@
+package com.internship.taskmanager.application.readmodel;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.internship.taskmanager.common.cache.CacheInvalidationBus;
+import com.internship.taskmanager.common.cache.CacheInvalidationMessage;
+import com.internship.taskmanager.domain.repository.ProjectListVersion;
+import com.internship.taskmanager.domain.repository.ProjectRepository;
+import com.internship.taskmanager.domain.repository.ProjectSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Denormalized, in-memory per-user project summaries serving GET /api/projects.
+ * <ul>
+ *   <li>A user's projects are loaded from the database on first read, then kept current by
+ *       {@link ProjectSummaryProjector} from the domain events of every write.</li>
+ *   <li>Each entry carries the project revision; an older projection never replaces a newer one,
+ *       and deleted projects stay as tombstones so a late projection cannot bring them back.
+ *       Projections are applied right after their commit, so a tombstone only has to outlive
+ *       those in flight: once older than {@code taskmanager.read-model.tombstone-ttl} it is
+ *       dropped on the user's next write.</li>
+ *   <li>Loads and projections of one user are serialized by a per-user lock, and a load reads the
+ *       database while holding it, so a projection skipped for a not-yet-loaded user is always
+ *       contained in the load that follows.</li>
+ *   <li>Other nodes are told through the {@link CacheInvalidationBus} to drop a changed user;
+ *       they reload it on their next read.</li>
+ * </ul>
+ */
+@Component
+public class ProjectReadModel {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectReadModel.class);
+
+    // "Entity name" of bus messages addressed to the read model; the id is the user id
+    static final String REGION = "project-read-model";
+
+    private static final int REFRESH_BATCH_SIZE = 500;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ProjectRepository projectRepository;
+    private final TransactionTemplate readTransaction;
+    private final CacheInvalidationBus bus;
+    private final Cache<Long, UserProjects> users;
+    private final long tombstoneTtlNanos;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    public ProjectReadModel(
+            ProjectRepository projectRepository,
+            PlatformTransactionManager transactionManager,
+            CacheInvalidationBus bus,
+            MeterRegistry meterRegistry,
+            @Value("${taskmanager.read-model.max-users:100000}") long maxUsers,
+            @Value("${taskmanager.read-model.tombstone-ttl:PT1M}") Duration tombstoneTtl
+    ) {
+        this.projectRepository = projectRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.bus = bus;
+        this.users = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .recordStats()
+                .build();
+        this.tombstoneTtlNanos = tombstoneTtl.toNanos();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, users, "project.read.model");
+        bus.subscribe(this::onMessage);
+    }
+
+    // A user's projects, loading them on first access
+    public ProjectListing getListing(Long userId) {
+        UserProjects projects = users.get(userId, id -> new UserProjects());
+        Snapshot snapshot = projects.snapshot;
+        if (snapshot == null) {
+            snapshot = projects.load(() ->
+                    readTransaction.execute(status -> projectRepository.findSummariesByUserId(userId)));
+        }
+        return snapshot.listing();
+    }
+
+    public long residentUsers() {
+        return users.estimatedSize();
+    }
+
+    // Applies projected entries of one user's projects; users not loaded on this node are skipped
+    void apply(Long userId, Collection<Entry> changes) {
+        UserProjects projects = users.getIfPresent(userId);
+        if (projects != null) {
+            projects.apply(changes, tombstoneTtlNanos);
+        }
+        bus.publish(new CacheInvalidationMessage(nodeId, REGION, userId));
+    }
+
+    // Drops a user so the next read reloads it (e.g. after a failed projection)
+    void evict(Long userId) {
+        users.invalidate(userId);
+    }
+
+    // Tombstones currently held for a user's deleted projects, 0 when the user is not loaded
+    int tombstones(Long userId) {
+        UserProjects projects = users.getIfPresent(userId);
+        Snapshot snapshot = projects == null ? null : projects.snapshot;
+        if (snapshot == null) {
+            return 0;
+        }
+        return (int) snapshot.entries().values().stream().filter(Entry::isTombstone).count();
+    }
+
+    // ✅ REFRESH: discard the projections of the users resident on this node and reload them from the
+    // normalized tables. Users not resident are left alone, they are loaded fresh on their next read
+    // anyway; nothing else is loaded, so a refresh never grows the model past what reads brought in.
+    // Empty when another refresh is still running: one at a time, callers get a conflict instead of waiting
+    public Optional<RefreshReport> refreshResidentUsers() {
+        if (!refreshLock.tryLock()) {
+            return Optional.empty();
+        }
+        try {
+            long started = System.nanoTime();
+            // Sorted so holder locks are always taken in ascending user id order
+            List<Long> userIds = users.asMap().keySet().stream().sorted().toList();
+            users.invalidateAll();
+
+            long projects = 0;
+            for (int from = 0; from < userIds.size(); from += REFRESH_BATCH_SIZE) {
+                projects += reload(userIds.subList(from, Math.min(from + REFRESH_BATCH_SIZE, userIds.size())));
+            }
+
+            RefreshReport report = new RefreshReport(userIds.size(), projects, (System.nanoTime() - started) / 1_000_000);
+            log.info("Project read model refreshed: residentUsers={} projects={} durationMs={}",
+                    report.users(), report.projects(), report.durationMillis());
+            return Optional.of(report);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    // One query per batch of users (ascending ids); every holder stays locked until its fresh snapshot is in place
+    private long reload(List<Long> userIds) {
+        List<UserProjects> holders = userIds.stream()
+                .map(id -> users.get(id, key -> new UserProjects()))
+                .toList();
+        holders.forEach(holder -> holder.lock.lock());
+        try {
+            Map<Long, List<ProjectSummary>> byUser = readTransaction.execute(status ->
+                    projectRepository.findSummariesByUserIdIn(userIds)).stream()
+                    .collect(Collectors.groupingBy(ProjectSummary::getOwnerId));
+
+            long projects = 0;
+            for (int i = 0; i < userIds.size(); i++) {
+                List<ProjectSummary> summaries = byUser.getOrDefault(userIds.get(i), List.of());
+                holders.get(i).snapshot = Snapshot.of(summaries);
+                projects += summaries.size();
+            }
+            return projects;
+        } finally {
+            holders.forEach(holder -> holder.lock.unlock());
+        }
+    }
+
+    private void onMessage(CacheInvalidationMessage message) {
+        if (REGION.equals(message.entityName()) && !nodeId.equals(message.originNodeId())) {
+            users.invalidate((Long) message.id());
+        }
+    }
+
+    public record RefreshReport(int users, long projects, long durationMillis) {}
+
+    // Projected state of one project: its summary, or a tombstone once deleted (deletedAt from System.nanoTime)
+    record Entry(Long projectId, long revision, ProjectSummaryView summary, long deletedAt) {
+
+        static Entry of(ProjectSummary summary) {
+            return new Entry(summary.getId(), summary.getRevision(), ProjectSummaryView.of(summary), 0);
+        }
+
+        // Deletes are final: the tombstone outranks any projection still in flight
+        static Entry deleted(Long projectId) {
+            return new Entry(projectId, Long.MAX_VALUE, null, System.nanoTime());
+        }
+
+        boolean isTombstone() {
+            return summary == null;
+        }
+    }
+
+    private record Snapshot(Map<Long, Entry> entries, ProjectListing listing) {
+
+        static Snapshot of(List<ProjectSummary> summaries) {
+            Map<Long, Entry> entries = new TreeMap<>();
+            for (ProjectSummary summary : summaries) {
+                entries.put(summary.getId(), Entry.of(summary));
+            }
+            return of(entries);
+        }
+
+        static Snapshot of(Map<Long, Entry> entries) {
+            List<ProjectSummary> projects = entries.values().stream()
+                    .filter(entry -> !entry.isTombstone())
+                    .<ProjectSummary>map(Entry::summary)
+                    .toList();
+            long revisionSum = 0;
+            long maxId = 0;
+            for (ProjectSummary project : projects) {
+                revisionSum += project.getRevision();
+                maxId = Math.max(maxId, project.getId());
+            }
+            ProjectListVersion version = new ProjectListVersion((long) projects.size(), revisionSum, maxId);
+            return new Snapshot(Collections.unmodifiableMap(entries), new ProjectListing(projects, version));
+        }
+    }
+
+    private static final class UserProjects {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile Snapshot snapshot;
+
+        Snapshot load(Supplier<List<ProjectSummary>> loader) {
+            lock.lock();
+            try {
+                if (snapshot == null) {
+                    snapshot = Snapshot.of(loader.get());
+                }
+                return snapshot;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void apply(Collection<Entry> changes, long tombstoneTtlNanos) {
+            lock.lock();
+            try {
+                if (snapshot == null) {
+                    return; // Not loaded yet: the load reads the database after this commit
+                }
+                long now = System.nanoTime();
+                Map<Long, Entry> entries = new TreeMap<>(snapshot.entries());
+                entries.values().removeIf(entry ->
+                        entry.isTombstone() && now - entry.deletedAt() >= tombstoneTtlNanos);
+                for (Entry change : changes) {
+                    Entry current = entries.get(change.projectId());
+                    if (current == null || change.revision() > current.revision()) {
+                        entries.put(change.projectId(), change);
+                    }
+                }
+                snapshot = Snapshot.of(entries);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
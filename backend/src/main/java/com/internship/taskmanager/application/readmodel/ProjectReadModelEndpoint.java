@@ -0,0 +1,52 @@
+package com.internship.taskmanager.application.readmodel;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /actuator/readmodel: projection lag and size (GET), refresh of the users resident on this node
+ * from the normalized tables (POST, 409 while one is running).
+ */
+@Component
+@Endpoint(id = "readmodel")
+public class ProjectReadModelEndpoint {
+
+    private final ProjectReadModel readModel;
+    private final MeterRegistry meterRegistry;
+
+    public ProjectReadModelEndpoint(ProjectReadModel readModel, MeterRegistry meterRegistry) {
+        this.readModel = readModel;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("residentUsers", readModel.residentUsers());
+        for (Timer lag : meterRegistry.find("readmodel.projection.lag").timers()) {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("events", lag.count());
+            stats.put("meanLagMillis", lag.mean(TimeUnit.MILLISECONDS));
+            stats.put("maxLagMillis", lag.max(TimeUnit.MILLISECONDS));
+            status.put(lag.getId().getTag("event"), stats);
+        }
+        return status;
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<Object> refresh() {
+        return readModel.refreshResidentUsers()
+                .<WebEndpointResponse<Object>>map(WebEndpointResponse::new)
+                .orElseGet(() -> new WebEndpointResponse<>(
+                        Map.of("error", "A refresh is already running"), 409));
+    }
+}
@@ -0,0 +1,103 @@
+package com.internship.taskmanager.application.readmodel;
+
+import com.internship.taskmanager.application.event.ProjectDeletedEvent;
+import com.internship.taskmanager.application.event.ProjectsChangedEvent;
+import com.internship.taskmanager.domain.repository.ProjectRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Projects domain events into {@link ProjectReadModel}.
+ * Changed projects are read inside the writing transaction (it sees its own writes, and the
+ * project row lock taken by the counter update orders concurrent writers); the result is only
+ * applied after commit, so a rollback never reaches the read model.
+ * Lag, from the event being published to its projection being applied, is exported as
+ * {@code readmodel.projection.lag}.
+ */
+@Component
+public class ProjectSummaryProjector {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectSummaryProjector.class);
+
+    private final ProjectRepository projectRepository;
+    private final ProjectReadModel readModel;
+    private final Timer changedLag;
+    private final Timer deletedLag;
+
+    public ProjectSummaryProjector(
+            ProjectRepository projectRepository,
+            ProjectReadModel readModel,
+            MeterRegistry meterRegistry
+    ) {
+        this.projectRepository = projectRepository;
+        this.readModel = readModel;
+        this.changedLag = lagTimer(meterRegistry, "changed");
+        this.deletedLag = lagTimer(meterRegistry, "deleted");
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onProjectsChanged(ProjectsChangedEvent event) {
+        // Soft-deleted projects are not returned; their tombstones are already in place
+        Map<Long, List<ProjectReadModel.Entry>> byOwner = projectRepository.findSummariesByIdIn(event.projectIds())
+                .stream()
+                .collect(Collectors.groupingBy(
+                        summary -> summary.getOwnerId(),
+                        Collectors.mapping(ProjectReadModel.Entry::of, Collectors.toList())));
+
+        afterCommit(event.occurredAt(), changedLag, byOwner);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onProjectDeleted(ProjectDeletedEvent event) {
+        afterCommit(event.occurredAt(), deletedLag,
+                Map.of(event.ownerId(), List.of(ProjectReadModel.Entry.deleted(event.projectId()))));
+    }
+
+    private void afterCommit(Instant occurredAt, Timer lag, Map<Long, ? extends Collection<ProjectReadModel.Entry>> changes) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(occurredAt, lag, changes);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(occurredAt, lag, changes);
+            }
+        });
+    }
+
+    private void apply(Instant occurredAt, Timer lag, Map<Long, ? extends Collection<ProjectReadModel.Entry>> changes) {
+        changes.forEach((userId, entries) -> {
+            try {
+                readModel.apply(userId, entries);
+            } catch (RuntimeException e) {
+                // The write is committed: fall back to reloading this user rather than failing the request
+                log.warn("Projection for user {} failed, evicting it from the read model", userId, e);
+                readModel.evict(userId);
+            }
+        });
+        lag.record(Duration.between(occurredAt, Instant.now()));
+    }
+
+    private static Timer lagTimer(MeterRegistry meterRegistry, String event) {
+        return Timer.builder("readmodel.projection.lag")
+                .description("Time from a write publishing its domain event to the read model applying it")
+                .tag("event", event)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+}
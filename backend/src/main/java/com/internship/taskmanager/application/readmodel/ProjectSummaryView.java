@@ -0,0 +1,55 @@
+package com.internship.taskmanager.application.readmodel;
+
+import com.internship.taskmanager.domain.repository.ProjectSummary;
+
+/**
+ * Immutable copy of a project summary, held by the read model.
+ */
+record ProjectSummaryView(
+        Long id,
+        Long ownerId,
+        String title,
+        String description,
+        long totalTasks,
+        long completedTasks,
+        long version,
+        long revision
+) implements ProjectSummary {
+
+    static ProjectSummaryView of(ProjectSummary summary) {
+        return new ProjectSummaryView(
+                summary.getId(),
+                summary.getOwnerId(),
+                summary.getTitle(),
+                summary.getDescription(),
+                summary.getTotalTasks(),
+                summary.getCompletedTasks(),
+                summary.getVersion(),
+                summary.getRevision()
+        );
+    }
+
+    @Override
+    public Long getId() { return id; }
+
+    @Override
+    public Long getOwnerId() { return ownerId; }
+
+    @Override
+    public String getTitle() { return title; }
+
+    @Override
+    public String getDescription() { return description; }
+
+    @Override
+    public long getTotalTasks() { return totalTasks; }
+
+    @Override
+    public long getCompletedTasks() { return completedTasks; }
+
+    @Override
+    public long getVersion() { return version; }
+
+    @Override
+    public long getRevision() { return revision; }
+}
@@ -0,0 +1,68 @@
+package com.internship.taskmanager.application.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.internship.taskmanager.domain.repository.ProjectListVersion;
+import com.internship.taskmanager.domain.repository.ProjectRepository;
+import com.internship.taskmanager.domain.repository.ProjectTaskStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Per-user dashboard aggregates, cached per user.
+ * Every task or project write bumps the project revision, so an entry is only served while the
+ * user's project list version (and the day) is unchanged: a hit costs one indexed lookup, and
+ * writes on any node or any path (bulk updates, imports) invalidate it without extra wiring.
+ */
+@Service
+@Transactional(readOnly = true)
+public class DashboardService {
+
+    // Tasks due from today through the next six days count as due this week
+    static final int DUE_SOON_DAYS = 7;
+
+    private final ProjectRepository projectRepository;
+    private final Cache<Long, CachedDashboard> dashboards;
+
+    public DashboardService(
+            ProjectRepository projectRepository,
+            MeterRegistry meterRegistry,
+            @Value("${taskmanager.dashboard.cache-size:10000}") long cacheSize,
+            @Value("${taskmanager.dashboard.cache-idle:PT10M}") Duration cacheIdle
+    ) {
+        this.projectRepository = projectRepository;
+        this.dashboards = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterAccess(cacheIdle)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, dashboards, "dashboard");
+    }
+
+    // ✅ GET task counts of every project of the authenticated user
+    public List<ProjectTaskStats> getDashboard(Long authenticatedUserId) {
+        LocalDate today = LocalDate.now();
+        // Version first: a write landing in between only makes the next read recompute
+        ProjectListVersion version = projectRepository.findListVersionByUserId(authenticatedUserId);
+
+        CachedDashboard cached = dashboards.getIfPresent(authenticatedUserId);
+        if (cached != null && cached.version().equals(version) && cached.day().equals(today)) {
+            return cached.projects();
+        }
+
+        List<ProjectTaskStats> projects = projectRepository.findTaskStatsByUserId(
+                authenticatedUserId, today, today.plusDays(DUE_SOON_DAYS - 1));
+        dashboards.put(authenticatedUserId, new CachedDashboard(version, today, projects));
+        return projects;
+    }
+
+    private record CachedDashboard(ProjectListVersion version, LocalDate day, List<ProjectTaskStats> projects) {
+    }
+}
@@ -0,0 +1,87 @@
+package com.internship.taskmanager.application.service;
+
+import com.internship.taskmanager.common.ResourceNotFoundException;
+import com.internship.taskmanager.domain.entity.Project;
+import com.internship.taskmanager.domain.entity.Task;
+import com.internship.taskmanager.domain.repository.Owned;
+import com.internship.taskmanager.domain.repository.ProjectRepository;
+import com.internship.taskmanager.domain.repository.TaskRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Authorization for project and task access.
+ * Projects are loaded by id, which goes through the second-level cache ("projects" region):
+ * on a warm cache a project check sends no SQL, and the owner id is the foreign key held by
+ * the lazy User proxy. Tasks are checked with one ownership-scoped lookup returning the owner id
+ * alongside the row. Missing or soft-deleted means 404 (ResourceNotFoundException),
+ * another owner means 403 (SecurityException).
+ */
+@Component
+public class OwnershipGuard {
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+
+    public OwnershipGuard(TaskRepository taskRepository, ProjectRepository projectRepository) {
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+    }
+
+    // 🔐 Project access when only the id is needed
+    public void checkProjectOwner(Long projectId, Long userId) {
+        requireOwnedProject(projectId, userId);
+    }
+
+    // 🔐 Project access returning the project itself
+    public Project requireOwnedProject(Long projectId, Long userId) {
+        Project project = findLiveProject(projectId)
+                .orElseThrow(() -> projectNotFound(projectId));
+
+        if (!isOwnedBy(project, userId)) {
+            throw new SecurityException("You do not own this project");
+        }
+        return project;
+    }
+
+    // 🔐 Project access returning only its change revision (conditional reads)
+    // Deliberately SQL, not the cache: the revision is bumped by plain UPDATEs and only evicted
+    // after commit, so a cached copy could hand out an ETag that is already stale
+    public long requireProjectRevision(Long projectId, Long userId) {
+        Owned<Long> owned = projectRepository.findRevisionWithOwnerById(projectId)
+                .orElseThrow(() -> projectNotFound(projectId));
+
+        if (!owned.isOwnedBy(userId)) {
+            throw new SecurityException("You do not own this project");
+        }
+        return owned.entity();
+    }
+
+    // 🔐 Task access (ownership via project)
+    // One indexed join rather than the cached project: every task write evicts its project,
+    // so on the write path a cache lookup would always miss and cost a second select
+    public Task requireOwnedTask(Long taskId, Long userId) {
+        Owned<Task> owned = taskRepository.findWithOwnerById(taskId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + taskId));
+
+        if (!owned.isOwnedBy(userId)) {
+            throw new SecurityException("You do not own this task");
+        }
+        return owned.entity();
+    }
+
+    // A cached entry may still carry a deletion whose after-commit eviction has not run yet
+    private Optional<Project> findLiveProject(Long projectId) {
+        return projectRepository.findById(projectId).filter(project -> !project.isDeleted());
+    }
+
+    // Reads the id of the lazy User proxy, the user itself is not loaded
+    private static boolean isOwnedBy(Project project, Long userId) {
+        return project.getUser().getId().equals(userId);
+    }
+
+    private static ResourceNotFoundException projectNotFound(Long projectId) {
+        return new ResourceNotFoundException("Project not found with id: " + projectId);
+    }
+}
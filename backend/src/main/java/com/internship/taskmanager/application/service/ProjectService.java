@@ -1,10 +1,19 @@
 package com.internship.taskmanager.application.service;
 
+import com.internship.taskmanager.application.event.ProjectDeletedEvent;
+import com.internship.taskmanager.application.event.ProjectsChangedEvent;
+import com.internship.taskmanager.application.readmodel.ProjectListing;
+import com.internship.taskmanager.application.readmodel.ProjectReadModel;
+import com.internship.taskmanager.common.ResourceNotFoundException;
+import com.internship.taskmanager.common.VersionTag;
 import com.internship.taskmanager.domain.entity.Project;
 import com.internship.taskmanager.domain.entity.User;
 import com.internship.taskmanager.domain.repository.ProjectRepository;
+import com.internship.taskmanager.domain.repository.ProjectSummary;
 import com.internship.taskmanager.domain.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -15,11 +24,20 @@ public class ProjectService {
 
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
+    private final OwnershipGuard ownershipGuard;
+    private final ProjectReadModel readModel;
+    private final ApplicationEventPublisher events;
 
     public ProjectService(ProjectRepository projectRepository,
-                          UserRepository userRepository) {
+                          UserRepository userRepository,
+                          OwnershipGuard ownershipGuard,
+                          ProjectReadModel readModel,
+                          ApplicationEventPublisher events) {
         this.projectRepository = projectRepository;
         this.userRepository = userRepository;
+        this.ownershipGuard = ownershipGuard;
+        this.readModel = readModel;
+        this.events = events;
     }
 
     // ✅ CREATE project (user from JWT)
@@ -36,7 +54,9 @@ public class ProjectService {
         Project project = new Project(title, description);
         project.assignToUser(user);
 
-        return projectRepository.save(project);
+        Project saved = projectRepository.save(project);
+        events.publishEvent(ProjectsChangedEvent.of(saved.getId()));
+        return saved;
     }
 
     // ✅ GET projects of authenticated user ONLY
@@ -44,30 +64,49 @@ public class ProjectService {
         return projectRepository.findByUserId(authenticatedUserId);
     }
 
-    // ✅ GET project with ownership check
-    public Project getProject(Long projectId, Long authenticatedUserId) {
-        Project project = projectRepository.findById(projectId)
+    // ✅ GET project list of authenticated user from the read model (no transaction, no query once loaded)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ProjectListing getProjectListing(Long authenticatedUserId) {
+        return readModel.getListing(authenticatedUserId);
+    }
+
+    // ✅ GET project summary with ownership check
+    @Transactional(readOnly = true)
+    public ProjectSummary getProjectSummary(Long projectId, Long authenticatedUserId) {
+        ProjectSummary summary = projectRepository.findSummaryById(projectId)
                 .orElseThrow(() ->
-                        new IllegalArgumentException(
+                        new ResourceNotFoundException(
                                 "Project not found with id: " + projectId));
 
-        if (!project.getUser().getId().equals(authenticatedUserId)) {
+        if (!summary.getOwnerId().equals(authenticatedUserId)) {
             throw new SecurityException("You do not own this project");
         }
 
-        return project;
+        return summary;
+    }
+
+    // ✅ GET project with ownership check
+    public Project getProject(Long projectId, Long authenticatedUserId) {
+        return ownershipGuard.requireOwnedProject(projectId, authenticatedUserId);
     }
 
-    // ✅ DELETE project with ownership check
+    // ✅ DELETE project with ownership check (soft delete, tasks are purged in the background)
     public void deleteProject(Long projectId, Long authenticatedUserId) {
         Project project = getProject(projectId, authenticatedUserId);
-        projectRepository.delete(project);
+        project.markDeleted();
+        projectRepository.bumpRevision(projectId);
+        events.publishEvent(ProjectDeletedEvent.of(authenticatedUserId, projectId));
     }
 
-    // ✅ UPDATE project with ownership check
-    public Project updateProject(Long projectId, String title, String description, Long authenticatedUserId) {
+    // ✅ UPDATE project with ownership check (optional If-Match version; @Version catches concurrent writers)
+    public Project updateProject(Long projectId, String title, String description, Long authenticatedUserId,
+                                 Long expectedVersion) {
         Project project = getProject(projectId, authenticatedUserId);
+        VersionTag.checkIfMatch(expectedVersion, project.getVersion());
         project.update(title, description);
-        return projectRepository.save(project);
+        Project saved = projectRepository.save(project);
+        projectRepository.bumpRevision(projectId);
+        events.publishEvent(ProjectsChangedEvent.of(projectId));
+        return saved;
     }
 }
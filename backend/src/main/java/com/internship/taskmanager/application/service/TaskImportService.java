@@ -0,0 +1,153 @@
+package com.internship.taskmanager.application.service;
+
+import com.internship.taskmanager.application.event.ProjectsChangedEvent;
+import com.internship.taskmanager.common.ResourceNotFoundException;
+import com.internship.taskmanager.domain.entity.Project;
+import com.internship.taskmanager.domain.entity.Task;
+import com.internship.taskmanager.domain.repository.ProjectRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Imports an unbounded sequence of tasks into one project.
+ * Tasks are pulled from the source one chunk at a time and each chunk commits in its
+ * own transaction, so the source (usually the request body) is only read as fast as
+ * the database accepts rows and a failure only rolls back the current chunk.
+ * Every chunk re-checks that the project is still live and locks its row until it commits,
+ * so a project deleted mid-import stops the import instead of receiving orphan tasks.
+ * A failure after the ownership check (unreadable or over-long record, deleted project,
+ * failed chunk) ends the import early: the result reports the chunks already committed
+ * and the reason, rather than hiding them behind an error.
+ */
+@Service
+public class TaskImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskImportService.class);
+
+    private final ProjectRepository projectRepository;
+    private final OwnershipGuard ownershipGuard;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher events;
+    private final int chunkSize;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Flush/clear interval inside a chunk; matches hibernate.jdbc.batch_size
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize = 50;
+
+    public TaskImportService(
+            ProjectRepository projectRepository,
+            OwnershipGuard ownershipGuard,
+            PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher events,
+            @Value("${taskmanager.import.chunk-size:1000}") int chunkSize
+    ) {
+        this.projectRepository = projectRepository;
+        this.ownershipGuard = ownershipGuard;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.events = events;
+        this.chunkSize = chunkSize;
+    }
+
+    // ✅ IMPORT tasks into a project in committed chunks (ownership checked once)
+    public Result importTasks(Long projectId, Long userId, Iterator<Task> tasks) {
+        // 🔐 Ownership check
+        ownershipGuard.checkProjectOwner(projectId, userId);
+
+        long started = System.nanoTime();
+        long imported = 0;
+        int chunks = 0;
+        List<Task> chunk = new ArrayList<>(chunkSize);
+
+        String abortReason = null;
+
+        try {
+            while (tasks.hasNext()) {
+                chunk.add(tasks.next());
+                if (chunk.size() == chunkSize) {
+                    imported += writeChunk(projectId, chunk);
+                    chunks++;
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                imported += writeChunk(projectId, chunk);
+                chunks++;
+            }
+        } catch (RuntimeException ex) {
+            // Earlier chunks stay committed: report them instead of failing the whole upload
+            abortReason = abortReason(ex, chunks + 1);
+            log.warn("Task import into project {} aborted after {} committed chunks: {}",
+                    projectId, chunks, abortReason, ex);
+        }
+
+        Result result = new Result(imported, chunks, (System.nanoTime() - started) / 1_000_000, abortReason);
+        log.info("Task import into project {}: imported={} chunks={} durationMs={} throughput={} rows/s aborted={}",
+                projectId, imported, chunks, result.durationMillis(), result.rowsPerSecond(), result.isAborted());
+        return result;
+    }
+
+    // Client-facing reason; database errors are not echoed since they may carry SQL
+    private static String abortReason(RuntimeException ex, int failedChunk) {
+        if (ex instanceof ResourceNotFoundException || ex instanceof IllegalArgumentException) {
+            return ex.getMessage();
+        }
+        if (ex instanceof UncheckedIOException) {
+            return "Reading the upload failed: " + ex.getCause().getMessage();
+        }
+        return "Chunk " + failedChunk + " failed and was rolled back";
+    }
+
+    private int writeChunk(Long projectId, List<Task> chunk) {
+        transactionTemplate.executeWithoutResult(status -> {
+            // Counters first: the UPDATE skips deleted projects and holds the row lock,
+            // so a concurrent delete waits for this chunk to commit
+            if (projectRepository.adjustTaskCounters(projectId, chunk.size(), 0) == 0) {
+                throw new ResourceNotFoundException("Project not found with id: " + projectId);
+            }
+
+            Project project = entityManager.getReference(Project.class, projectId);
+            for (int i = 0; i < chunk.size(); i++) {
+                Task task = chunk.get(i);
+                task.assignToProject(project);
+                entityManager.persist(task);
+
+                if ((i + 1) % batchSize == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                    project = entityManager.getReference(Project.class, projectId);
+                }
+            }
+            entityManager.flush();
+            entityManager.clear();
+            events.publishEvent(ProjectsChangedEvent.of(projectId));
+        });
+        return chunk.size();
+    }
+
+    // abortReason is null when the whole source was imported
+    public record Result(long imported, int chunks, long durationMillis, String abortReason) {
+
+        public boolean isAborted() {
+            return abortReason != null;
+        }
+
+        public long rowsPerSecond() {
+            return durationMillis > 0 ? imported * 1000 / durationMillis : imported;
+        }
+    }
+}
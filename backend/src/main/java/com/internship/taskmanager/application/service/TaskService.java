@@ -1,12 +1,24 @@
 
 package com.internship.taskmanager.application.service;
+import com.internship.taskmanager.application.event.ProjectsChangedEvent;
+import com.internship.taskmanager.common.VersionTag;
 import com.internship.taskmanager.domain.entity.*;
 import com.internship.taskmanager.domain.repository.*;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.LongPredicate;
+import java.util.stream.Stream;
 
 
 
@@ -17,10 +29,26 @@ public class TaskService {
 
     private final TaskRepository taskRepository;
     private final ProjectRepository projectRepository;
+    private final OwnershipGuard ownershipGuard;
+    private final ApplicationEventPublisher events;
 
-    public TaskService(TaskRepository taskRepository, ProjectRepository projectRepository) {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Flush/clear interval for bulk writes; matches hibernate.jdbc.batch_size
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize = 50;
+
+    public TaskService(
+            TaskRepository taskRepository,
+            ProjectRepository projectRepository,
+            OwnershipGuard ownershipGuard,
+            ApplicationEventPublisher events
+    ) {
         this.taskRepository = taskRepository;
         this.projectRepository = projectRepository;
+        this.ownershipGuard = ownershipGuard;
+        this.events = events;
     }
 
     // ✅ CREATE task (with ownership check)
@@ -31,19 +59,42 @@ public class TaskService {
             Long projectId,
             Long userId
     ) {
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new IllegalArgumentException(
-                        "Project not found with id: " + projectId));
-
         // 🔐 Ownership check
-        if (!project.getUser().getId().equals(userId)) {
-            throw new SecurityException("You do not own this project");
-        }
+        ownershipGuard.checkProjectOwner(projectId, userId);
+        Project project = projectRepository.getReferenceById(projectId);
 
         Task task = new Task(title, description, dueDate);
         task.assignToProject(project);
 
-        return taskRepository.save(task);
+        Task saved = taskRepository.save(task);
+        projectRepository.adjustTaskCounters(projectId, 1, 0);
+        events.publishEvent(ProjectsChangedEvent.of(projectId));
+        return saved;
+    }
+
+    // ✅ CREATE many tasks in one project (one ownership check, batched inserts)
+    public List<Long> createTasks(List<Task> tasks, Long projectId, Long userId) {
+        // 🔐 Ownership check (once for the whole batch)
+        ownershipGuard.checkProjectOwner(projectId, userId);
+        Project project = projectRepository.getReferenceById(projectId);
+
+        List<Long> ids = new ArrayList<>(tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            task.assignToProject(project);
+            entityManager.persist(task);
+            ids.add(task.getId());
+
+            // Send a full JDBC batch, then drop it from the persistence context to keep memory flat
+            if ((i + 1) % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+
+        projectRepository.adjustTaskCounters(projectId, tasks.size(), 0);
+        events.publishEvent(ProjectsChangedEvent.of(projectId));
+        return ids;
     }
 
     // ✅ GET tasks (pagination + filters + ownership)
@@ -55,67 +106,181 @@ public class TaskService {
             int size,
             Long userId
     ) {
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new IllegalArgumentException(
-                        "Project not found with id: " + projectId));
-
         // 🔐 Ownership check
-        Long projectOwnerId = project.getUser().getId();
-        System.out.println("DEBUG: Task fetch for projectId=" + projectId + " | projectOwnerId=" + projectOwnerId + " | requestUserId=" + userId);
-        
-        if (!projectOwnerId.equals(userId)) {
-            System.out.println("DEBUG: Ownership mismatch! projectOwnerId=" + projectOwnerId + " != requestUserId=" + userId);
-            throw new SecurityException("You do not own this project (ID: " + projectId + "). Access denied.");
-        }
+        ownershipGuard.checkProjectOwner(projectId, userId);
 
         Pageable pageable = PageRequest.of(page, size);
-        String searchTitle = (title != null && !title.isEmpty()) ? "%" + title.toLowerCase() + "%" : null;
-        
+
         return taskRepository.findByProjectIdWithFilters(
-                projectId, status, searchTitle, pageable);
+                projectId, status, toTitlePattern(title), pageable);
     }
 
-    // ✅ COMPLETE task (ownership via project)
-    public Task completeTask(Long taskId, Long userId) {
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new IllegalArgumentException(
-                        "Task not found with id: " + taskId));
+    // ✅ GET tasks unless the caller's copy is current (conditional GET: nothing is loaded on a match)
+    @Transactional(readOnly = true)
+    public Versioned<Page<Task>> getTasksByProjectWithFiltersIfChanged(
+            Long projectId,
+            TaskStatus status,
+            String title,
+            int page,
+            int size,
+            Long userId,
+            LongPredicate isCurrent
+    ) {
+        // 🔐 Ownership check (same lookup as the revision)
+        long revision = ownershipGuard.requireProjectRevision(projectId, userId);
+        if (isCurrent.test(revision)) {
+            return new Versioned<>(revision, null);
+        }
 
-        Project project = task.getProject();
+        return new Versioned<>(revision, taskRepository.findByProjectIdWithFilters(
+                projectId, status, toTitlePattern(title), PageRequest.of(page, size)));
+    }
 
+    // ✅ GET tasks after a cursor (keyset pagination + filters + ownership)
+    public Slice<Task> getTasksByProjectAfterCursor(
+            Long projectId,
+            TaskStatus status,
+            String title,
+            Long afterId,
+            int size,
+            Long userId
+    ) {
         // 🔐 Ownership check
-        if (!project.getUser().getId().equals(userId)) {
-            throw new SecurityException("You do not own this task");
+        ownershipGuard.checkProjectOwner(projectId, userId);
+
+        // Page 0 only: the cursor does the seeking, the slice reads one extra row to detect a next page
+        Pageable pageable = PageRequest.of(0, size);
+
+        return taskRepository.findSliceByProjectIdWithFilters(
+                projectId, status, toTitlePattern(title), afterId != null ? afterId : 0L, pageable);
+    }
+
+    // ✅ SEARCH tasks by title/description (ranked, paginated, ownership)
+    @Transactional(readOnly = true)
+    public Slice<Task> searchTasks(
+            Long projectId,
+            String query,
+            int page,
+            int size,
+            Long userId
+    ) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query must not be empty");
         }
 
-        task.markAsCompleted();
-        return taskRepository.save(task);
+        // 🔐 Ownership check
+        ownershipGuard.checkProjectOwner(projectId, userId);
+
+        return taskRepository.searchInProject(projectId, query.trim(), PageRequest.of(page, size));
     }
 
-    // (Optional) DELETE task
-    public void deleteTask(Long taskId, Long userId) {
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new IllegalArgumentException(
-                        "Task not found with id: " + taskId));
+    // ✅ EXPORT every task of a project, streamed row by row (ownership checked before the first row)
+    @Transactional(readOnly = true)
+    public long exportTasks(Long projectId, TaskStatus status, Long userId, Consumer<Task> sink) {
+        // 🔐 Ownership check
+        ownershipGuard.checkProjectOwner(projectId, userId);
 
-        if (!task.getProject().getUser().getId().equals(userId)) {
-            throw new SecurityException("You do not own this task");
+        long exported = 0;
+        try (Stream<Task> tasks = taskRepository.streamByProjectId(projectId, status)) {
+            for (Task task : (Iterable<Task>) tasks::iterator) {
+                sink.accept(task);
+                // Keep the persistence context flat: only the owning project stays managed
+                entityManager.detach(task);
+                exported++;
+            }
         }
+        return exported;
+    }
 
-        taskRepository.delete(task);
+    private String toTitlePattern(String title) {
+        return (title != null && !title.isEmpty()) ? "%" + title.toLowerCase() + "%" : null;
     }
 
-    // ✅ UPDATE task with ownership check
-    public Task updateTask(Long taskId, String title, String description, LocalDate dueDate, Long userId) {
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new IllegalArgumentException(
-                        "Task not found with id: " + taskId));
+    // ✅ COMPLETE task (ownership via project, optional If-Match version)
+    public Task completeTask(Long taskId, Long userId, Long expectedVersion) {
+        // 🔐 Ownership check
+        Task task = ownershipGuard.requireOwnedTask(taskId, userId);
+        VersionTag.checkIfMatch(expectedVersion, task.getVersion());
 
-        if (!task.getProject().getUser().getId().equals(userId)) {
-            throw new SecurityException("You do not own this task");
+        if (!task.isCompleted()) {
+            task.markAsCompleted();
+            projectRepository.adjustTaskCounters(task.getProject().getId(), 0, 1);
+            events.publishEvent(ProjectsChangedEvent.of(task.getProject().getId()));
+        }
+        return taskRepository.save(task);
+    }
+
+    // ✅ BULK status change for explicit task ids (one ownership-scoped UPDATE)
+    public int updateStatus(List<Long> taskIds, TaskStatus status, Long userId) {
+        // Rows that will move, per project: every one of them crosses the DONE boundary
+        List<ProjectTaskCount> changes = taskRepository.countStatusChangesByProject(taskIds, status, userId);
+        if (changes.isEmpty()) {
+            return 0;
         }
 
+        int updated = taskRepository.updateStatusByIds(taskIds, status, userId, LocalDateTime.now());
+        List<Long> projectIds = changes.stream().map(ProjectTaskCount::projectId).toList();
+        long expected = changes.stream().mapToLong(ProjectTaskCount::tasks).sum();
+        if (updated == expected) {
+            for (ProjectTaskCount change : changes) {
+                int moved = change.tasks().intValue();
+                projectRepository.adjustTaskCounters(change.projectId(), 0, status == TaskStatus.DONE ? moved : -moved);
+            }
+        } else {
+            // A concurrent writer changed some of these tasks between the count and the UPDATE
+            projectRepository.recomputeTaskCounters(projectIds);
+        }
+        if (updated > 0) {
+            events.publishEvent(ProjectsChangedEvent.of(projectIds));
+        }
+        return updated;
+    }
+
+    // ✅ BULK status change for a filter, e.g. "all TODO tasks in project X due before D"
+    public int updateStatusByFilter(
+            Long projectId,
+            TaskStatus currentStatus,
+            LocalDate dueBefore,
+            TaskStatus status,
+            Long userId
+    ) {
+        // 🔐 Ownership check
+        ownershipGuard.checkProjectOwner(projectId, userId);
+
+        int updated = taskRepository.updateStatusByFilter(
+                projectId, currentStatus, dueBefore, status, userId, LocalDateTime.now());
+
+        // Every updated row moved into the target status, so the delta is exact
+        if (updated > 0) {
+            int completedDelta = status == TaskStatus.DONE ? updated : -updated;
+            projectRepository.adjustTaskCounters(projectId, 0, completedDelta);
+            events.publishEvent(ProjectsChangedEvent.of(projectId));
+        }
+        return updated;
+    }
+
+    // (Optional) DELETE task
+    public void deleteTask(Long taskId, Long userId) {
+        // 🔐 Ownership check
+        Task task = ownershipGuard.requireOwnedTask(taskId, userId);
+
+        taskRepository.delete(task);
+        projectRepository.adjustTaskCounters(
+                task.getProject().getId(), -1, task.isCompleted() ? -1 : 0);
+        events.publishEvent(ProjectsChangedEvent.of(task.getProject().getId()));
+    }
+
+    // ✅ UPDATE task with ownership check (optional If-Match version; @Version catches concurrent writers)
+    public Task updateTask(Long taskId, String title, String description, LocalDate dueDate, Long userId,
+                           Long expectedVersion) {
+        // 🔐 Ownership check
+        Task task = ownershipGuard.requireOwnedTask(taskId, userId);
+        VersionTag.checkIfMatch(expectedVersion, task.getVersion());
+
         task.update(title, description, dueDate);
-        return taskRepository.save(task);
+        Task saved = taskRepository.save(task);
+        projectRepository.bumpRevision(task.getProject().getId());
+        events.publishEvent(ProjectsChangedEvent.of(task.getProject().getId()));
+        return saved;
     }
 }
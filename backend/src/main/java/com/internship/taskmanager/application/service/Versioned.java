@@ -0,0 +1,8 @@
+package com.internship.taskmanager.application.service;
+
+/**
+ * A read result together with the change revision it was read at.
+ * {@code value} is null when the caller already held that revision and nothing was loaded.
+ */
+public record Versioned<T>(long revision, T value) {
+}
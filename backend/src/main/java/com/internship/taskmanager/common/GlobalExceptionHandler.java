@@ -2,9 +2,15 @@ package com.internship.taskmanager.common;
 
 
 
+import com.internship.taskmanager.common.logging.LogSampler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -12,6 +18,28 @@ import java.util.Map;
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+
+    // Failed logins come in bursts (typos, credential stuffing): log a sample, count the rest.
+    // Same budget as the security chain's 401/403 lines (see LoggingConfig)
+    private final LogSampler authFailureSampler;
+
+    public GlobalExceptionHandler(LogSampler authFailureSampler) {
+        this.authFailureSampler = authFailureSampler;
+    }
+
+    // Stale If-Match: the client edited an outdated copy
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<String> handlePreconditionFailed(PreconditionFailedException ex) {
+        return ResponseEntity.status(412).body(ex.getMessage());
+    }
+
+    // Concurrent write detected by the @Version check while saving
+    @ExceptionHandler({OptimisticLockingFailureException.class, jakarta.persistence.OptimisticLockException.class})
+    public ResponseEntity<String> handleConflict(Exception ex) {
+        return ResponseEntity.status(409).body("The resource was modified concurrently, reload and retry");
+    }
+
     // Validation errors
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, String>> handleValidation(MethodArgumentNotValidException ex) {
@@ -23,6 +51,18 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(errors);
     }
 
+    // Missing resources (more specific than IllegalArgumentException)
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<String> handleNotFound(ResourceNotFoundException ex) {
+        return ResponseEntity.status(404).body(ex.getMessage());
+    }
+
+    // No handler or static resource for the path (would otherwise fall through to the 500 handler)
+    @ExceptionHandler(NoResourceFoundException.class)
+    public ResponseEntity<String> handleNoResource(NoResourceFoundException ex) {
+        return ResponseEntity.status(404).body(ex.getMessage());
+    }
+
     // Illegal arguments
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<String> handleIllegal(IllegalArgumentException ex) {
@@ -34,10 +74,25 @@ public class GlobalExceptionHandler {
     public ResponseEntity<String> handleSecurity(SecurityException ex) {
         return ResponseEntity.status(403).body(ex.getMessage());
     }
+    // Failed login (bad credentials, unknown or disabled user)
+    @ExceptionHandler(AuthenticationException.class)
+    public ResponseEntity<Map<String, String>> handleAuthentication(AuthenticationException ex) {
+        if (authFailureSampler.tryAcquire()) {
+            log.atWarn()
+                    .addKeyValue("reason", ex.getMessage())
+                    .addKeyValue("suppressed", authFailureSampler.takeSuppressed())
+                    .log("Login failed");
+        }
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "Unauthorized");
+        error.put("message", "Invalid email or password");
+        return ResponseEntity.status(401).body(error);
+    }
+
     // Generic error
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, String>> handleAll(Exception ex) {
-        ex.printStackTrace(); // Still log it
+        log.error("Unhandled exception", ex);
         Map<String, String> error = new HashMap<>();
         error.put("error", "Internal Server Error");
         error.put("message", ex.getMessage());
@@ -0,0 +1,12 @@
+package com.internship.taskmanager.common;
+
+/**
+ * The client's If-Match version is no longer current, mapped to 412.
+ * The client must re-read the resource before retrying the write.
+ */
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package com.internship.taskmanager.common;
+
+/**
+ * A requested resource does not exist (or is no longer visible), mapped to 404.
+ * Extends IllegalArgumentException so existing callers catching it keep working.
+ */
+public class ResourceNotFoundException extends IllegalArgumentException {
+
+    public ResourceNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,42 @@
+package com.internship.taskmanager.common;
+
+/**
+ * Maps an entity version to the strong ETag clients echo back in If-Match, and back.
+ * The If-Match check only catches clients editing an outdated copy; writes racing between
+ * the check and the commit are caught by the @Version column itself.
+ */
+public final class VersionTag {
+
+    private VersionTag() {}
+
+    public static String format(long version) {
+        return "\"" + version + "\"";
+    }
+
+    // Null or "*" means "no precondition"; anything else must be one version ETag
+    public static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        if (tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw new IllegalArgumentException("If-Match must be a single version ETag, e.g. \"3\"");
+        }
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("If-Match must be a single version ETag, e.g. \"3\"");
+        }
+    }
+
+    // Null expected version means the client sent no precondition
+    public static void checkIfMatch(Long expectedVersion, long currentVersion) {
+        if (expectedVersion != null && expectedVersion != currentVersion) {
+            throw new PreconditionFailedException(
+                    "Version " + expectedVersion + " is outdated, current version is " + currentVersion);
+        }
+    }
+}
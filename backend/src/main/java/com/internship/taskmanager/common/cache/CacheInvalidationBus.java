@@ -0,0 +1,14 @@
+package com.internship.taskmanager.common.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Fan-out channel between application nodes for second-level cache invalidations.
+ * Production deployments plug in a broker-backed implementation (Redis pub/sub, JMS topic, ...).
+ */
+public interface CacheInvalidationBus {
+
+    void publish(CacheInvalidationMessage message);
+
+    void subscribe(Consumer<CacheInvalidationMessage> subscriber);
+}
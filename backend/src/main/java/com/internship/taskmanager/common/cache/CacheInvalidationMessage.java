@@ -0,0 +1,11 @@
+package com.internship.taskmanager.common.cache;
+
+import java.io.Serializable;
+
+/**
+ * Tells every node to drop one second-level cache entry.
+ * {@code originNodeId} lets the sender ignore its own broadcast.
+ */
+public record CacheInvalidationMessage(String originNodeId, String entityName, Serializable id)
+        implements Serializable {
+}
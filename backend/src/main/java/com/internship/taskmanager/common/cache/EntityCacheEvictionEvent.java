@@ -0,0 +1,10 @@
+package com.internship.taskmanager.common.cache;
+
+import java.util.Collection;
+
+/**
+ * Published when rows of a cached entity were changed behind Hibernate's back (plain JDBC),
+ * so the matching second-level cache entries must be evicted once the transaction commits.
+ */
+public record EntityCacheEvictionEvent(Class<?> entityClass, Collection<Long> ids) {
+}
@@ -0,0 +1,107 @@
+package com.internship.taskmanager.common.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * Keeps the second-level cache coherent across nodes.
+ * <ul>
+ *   <li>Committed Hibernate updates/deletes of cached entities are broadcast on the bus
+ *       (the local region is already maintained by Hibernate's READ_WRITE strategy).</li>
+ *   <li>JDBC writes announced through {@link EntityCacheEvictionEvent} are evicted locally
+ *       after commit and broadcast as well.</li>
+ *   <li>Messages from other nodes evict the matching local entry.</li>
+ * </ul>
+ */
+@Component
+public class EntityCacheInvalidator implements PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private static final Logger log = LoggerFactory.getLogger(EntityCacheInvalidator.class);
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final SessionFactoryImplementor sessionFactory;
+    private final CacheInvalidationBus bus;
+
+    public EntityCacheInvalidator(EntityManagerFactory entityManagerFactory, CacheInvalidationBus bus) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.bus = bus;
+
+        EventListenerRegistry listeners = sessionFactory.getEventListenerRegistry();
+        listeners.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        listeners.appendListeners(EventType.POST_COMMIT_DELETE, this);
+        bus.subscribe(this::onMessage);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    // ===== Local changes -> other nodes =====
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        broadcast(event.getPersister().getEntityName(), event.getId());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        broadcast(event.getPersister().getEntityName(), event.getId());
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        // Rolled back: nothing changed, nothing to invalidate
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        // Rolled back: nothing changed, nothing to invalidate
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return persister.canWriteToCache();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onJdbcWrite(EntityCacheEvictionEvent event) {
+        String entityName = event.entityClass().getName();
+        for (Long id : event.ids()) {
+            sessionFactory.getCache().evictEntityData(event.entityClass(), id);
+            broadcast(entityName, id);
+        }
+    }
+
+    private void broadcast(String entityName, Object id) {
+        bus.publish(new CacheInvalidationMessage(nodeId, entityName, (Serializable) id));
+    }
+
+    // ===== Other nodes -> local cache =====
+
+    private void onMessage(CacheInvalidationMessage message) {
+        if (nodeId.equals(message.originNodeId())) {
+            return;
+        }
+        // The bus is shared with other caches (e.g. the project read model)
+        if (sessionFactory.getMappingMetamodel().findEntityDescriptor(message.entityName()) == null) {
+            return;
+        }
+        log.debug("Evicting {}#{} on behalf of node {}", message.entityName(), message.id(), message.originNodeId());
+        sessionFactory.getCache().evictEntityData(message.entityName(), message.id());
+    }
+}
@@ -0,0 +1,56 @@
+package com.internship.taskmanager.common.logging;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Rate limit for high-volume log events (e.g. auth failures): at most {@code permits} events per window,
+ * the rest are only counted. The next emitted event reports how many were suppressed.
+ * Lock-free, so rejected events cost a couple of atomic operations and never touch the appender.
+ */
+public final class LogSampler {
+
+    // State packs the window number (high bits) and the events admitted in it (low bits),
+    // so a window rollover and its count reset happen in one compare-and-set
+    private static final int COUNT_BITS = 20;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+    private final int permits;
+    private final long windowNanos;
+    private final long origin = System.nanoTime();
+    private final AtomicLong state = new AtomicLong();
+    private final LongAdder suppressed = new LongAdder();
+
+    public LogSampler(int permits, Duration window) {
+        if (permits < 1 || permits > COUNT_MASK) {
+            throw new IllegalArgumentException("permits must be between 1 and " + COUNT_MASK);
+        }
+        this.permits = permits;
+        this.windowNanos = window.toNanos();
+    }
+
+    // True when this event may be logged
+    public boolean tryAcquire() {
+        long window = (System.nanoTime() - origin) / windowNanos;
+        while (true) {
+            long current = state.get();
+            long currentWindow = current >>> COUNT_BITS;
+            // A newer window already installed by another thread wins over our (older) clock read
+            long targetWindow = Math.max(window, currentWindow);
+            long count = targetWindow == currentWindow ? current & COUNT_MASK : 0;
+            if (count >= permits) {
+                suppressed.increment();
+                return false;
+            }
+            if (state.compareAndSet(current, (targetWindow << COUNT_BITS) | (count + 1))) {
+                return true;
+            }
+        }
+    }
+
+    // Events dropped since the last call, to attach to the next emitted line
+    public long takeSuppressed() {
+        return suppressed.sumThenReset();
+    }
+}
@@ -0,0 +1,62 @@
+package com.internship.taskmanager.common.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Records per-request Hibernate work as distribution summaries tagged like http.server.requests
+ * (method + uri template), so a slow endpoint can be matched with the queries it runs:
+ * hibernate.request.statements, hibernate.request.entity.loads and hibernate.request.flushes.
+ * Runs ahead of the security chain so token-to-user lookups are counted too.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+
+    public RequestMetricsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestStatistics statistics = RequestStatistics.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestStatistics.stop();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            // Unmapped requests (404s, static resources) would only add noise
+            if (pattern != null) {
+                record("hibernate.request.statements", "SQL statements prepared by Hibernate per request",
+                        request, pattern, statistics.getStatements());
+                record("hibernate.request.entity.loads", "Entities loaded (database or second-level cache) per request",
+                        request, pattern, statistics.getEntityLoads());
+                record("hibernate.request.flushes", "Persistence context flushes per request",
+                        request, pattern, statistics.getFlushes());
+            }
+        }
+    }
+
+    private void record(String name, String description, HttpServletRequest request, Object pattern, int amount) {
+        DistributionSummary.builder(name)
+                .description(description)
+                .tag("method", request.getMethod())
+                .tag("uri", pattern.toString())
+                .register(meterRegistry)
+                .record(amount);
+    }
+}
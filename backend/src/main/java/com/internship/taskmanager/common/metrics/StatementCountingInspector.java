@@ -0,0 +1,19 @@
+package com.internship.taskmanager.common.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares for the current request.
+ * Registered through hibernate.session_factory.statement_inspector; leaves the SQL untouched.
+ */
+public class StatementCountingInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestStatistics statistics = RequestStatistics.current();
+        if (statistics != null) {
+            statistics.statementPrepared();
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,19 @@
+package com.internship.taskmanager.config;
+
+import com.internship.taskmanager.common.logging.LogSampler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class LoggingConfig {
+
+    // One budget shared by every 401/403, rejected-token and failed-login line
+    @Bean
+    public LogSampler authFailureSampler(
+            @Value("${taskmanager.logging.auth-failures-per-second:10}") int authFailuresPerSecond) {
+        return new LogSampler(authFailuresPerSecond, Duration.ofSeconds(1));
+    }
+}
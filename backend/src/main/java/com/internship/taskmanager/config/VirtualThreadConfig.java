@@ -0,0 +1,59 @@
+package com.internship.taskmanager.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Opt-in virtual-thread mode ({@code spring.threads.virtual.enabled=true}, e.g. the
+ * {@code vthreads} profile). Spring Boot then serves requests, @Scheduled and @Async work
+ * on virtual threads; this configuration adds the database admission cap those threads need.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    // Static: post-processors are created before regular beans
+    @Bean
+    static BeanPostProcessor admissionControlDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof AdmissionControlDataSource) {
+                    return bean;
+                }
+                // Default: one permit per pooled connection, so waiting happens here and not in the pool
+                int maxConcurrency = environment.getProperty("taskmanager.db.max-concurrency", Integer.class,
+                        environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10));
+                Duration timeout = environment.getProperty("taskmanager.db.admission-timeout", Duration.class,
+                        Duration.ofSeconds(30));
+                return new AdmissionControlDataSource(dataSource, maxConcurrency, timeout);
+            }
+        };
+    }
+
+    @Bean
+    MeterBinder databaseAdmissionMetrics(ObjectProvider<DataSource> dataSource) {
+        return registry -> {
+            if (dataSource.getIfAvailable() instanceof AdmissionControlDataSource admission) {
+                Gauge.builder("db.admission.active", admission, AdmissionControlDataSource::getActive)
+                        .description("Connections currently admitted")
+                        .register(registry);
+                Gauge.builder("db.admission.waiting", admission, AdmissionControlDataSource::getWaiting)
+                        .description("Callers parked waiting for database admission")
+                        .register(registry);
+                Gauge.builder("db.admission.max", admission, AdmissionControlDataSource::getMaxConcurrency)
+                        .register(registry);
+            }
+        };
+    }
+}
@@ -12,12 +12,21 @@ public abstract class BaseEntity {
 
     /**
      * Primary key for all entities.
-     * Generated automatically by the database.
+     * Drawn from a pooled sequence (50 ids per round trip), which lets Hibernate batch inserts.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "entity_id")
+    @SequenceGenerator(name = "entity_id", sequenceName = "entity_id_seq", allocationSize = 50)
     private Long id;
 
+    /**
+     * Optimistic lock: checked and incremented by every update, exposed to clients as the ETag
+     * they send back in If-Match.
+     */
+    @Version
+    @Column(nullable = false)
+    private long version;
+
     /**
      * Date when the record was created.
      */
@@ -53,6 +62,10 @@ public abstract class BaseEntity {
         return id;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -1,11 +1,22 @@
 package com.internship.taskmanager.domain.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.SQLRestriction;
+
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
 @Table(name = "projects")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "projects")
+@DynamicUpdate // never write back stale counters when only title/description change
+@SQLRestriction("deleted_at IS NULL") // soft-deleted projects are invisible to every query
 public class Project extends BaseEntity {
 
 
@@ -16,12 +27,14 @@ public class Project extends BaseEntity {
     @Column(length = 1000)
     private String description;
 
-    // Many projects belong to one user
-    @ManyToOne(optional = false)
+    // Many projects belong to one user (lazy: ownership only needs the id, see OwnershipGuard)
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
     // A project contains many tasks
+    // Deliberately not cached: Task is not in the second-level cache, so a cached id list would
+    // turn one collection load into one select per task, and task writes would not evict it
     @OneToMany(
             mappedBy = "project",
             cascade = CascadeType.ALL,
@@ -29,6 +42,23 @@ public class Project extends BaseEntity {
     )
     private List<Task> tasks = new ArrayList<>();
 
+    // Persisted task counters, maintained by ProjectRepository.adjustTaskCounters
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int totalTaskCount;
+
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int completedTaskCount;
+
+    // Change version of the project and its tasks (ETags); only ever bumped in SQL, see ProjectCounterRepository
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long revision;
+
+    // Set on delete; the row and its tasks are removed later by ProjectPurgeJob
+    private LocalDateTime deletedAt;
+
     // ===== Constructors =====
     protected Project() {}
 
@@ -50,6 +80,14 @@ public class Project extends BaseEntity {
         this.description = description;
     }
 
+    public void markDeleted() {
+        this.deletedAt = LocalDateTime.now();
+    }
+
+    public boolean isDeleted() {
+        return deletedAt != null;
+    }
+
     public int getTotalTasks() {
         return tasks.size();
     }
@@ -86,4 +124,16 @@ public class Project extends BaseEntity {
     public List<Task> getTasks() {
         return tasks;
     }
+
+    public int getTotalTaskCount() {
+        return totalTaskCount;
+    }
+
+    public int getCompletedTaskCount() {
+        return completedTaskCount;
+    }
+
+    public long getRevision() {
+        return revision;
+    }
 }
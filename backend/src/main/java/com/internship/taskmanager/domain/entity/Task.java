@@ -1,6 +1,9 @@
 package com.internship.taskmanager.domain.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
 import java.time.LocalDate;
 
 @Entity
@@ -17,11 +20,12 @@ public class Task extends BaseEntity {
     private LocalDate dueDate;
 
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR) // plain varchar column on every database (see V1 migration)
     @Column(nullable = false)
     private TaskStatus status = TaskStatus.TODO;
 
-    // Many tasks belong to one project
-    @ManyToOne(optional = false)
+    // Many tasks belong to one project (lazy: ownership is checked in SQL, see OwnershipGuard)
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
     @JoinColumn(name = "project_id", nullable = false)
     private Project project;
 
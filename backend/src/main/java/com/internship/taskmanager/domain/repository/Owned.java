@@ -0,0 +1,12 @@
+package com.internship.taskmanager.domain.repository;
+
+/**
+ * An entity loaded together with the id of the user owning it, so callers can tell
+ * "does not exist" from "belongs to someone else" with a single lookup.
+ */
+public record Owned<T>(T entity, Long ownerId) {
+
+    public boolean isOwnedBy(Long userId) {
+        return ownerId.equals(userId);
+    }
+}
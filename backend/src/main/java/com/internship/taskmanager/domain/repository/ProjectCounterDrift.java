@@ -0,0 +1,22 @@
+package com.internship.taskmanager.domain.repository;
+
+/**
+ * Stored task counters of a project next to the counts derived from the tasks table.
+ * Used by the reconciliation job to detect drift.
+ */
+public interface ProjectCounterDrift {
+
+    Long getProjectId();
+
+    int getStoredTotal();
+
+    int getStoredCompleted();
+
+    long getActualTotal();
+
+    long getActualCompleted();
+
+    default boolean isDrifted() {
+        return getStoredTotal() != getActualTotal() || getStoredCompleted() != getActualCompleted();
+    }
+}
@@ -0,0 +1,21 @@
+package com.internship.taskmanager.domain.repository;
+
+import java.util.Collection;
+
+/**
+ * Maintenance of the persisted task counters and change revision on projects.
+ * Every write bumps the revision, which drives the ETags of project and task reads.
+ * Runs as plain SQL in the caller's transaction and evicts only the touched projects
+ * from the second-level cache, instead of the whole region a JPQL bulk update would clear.
+ */
+public interface ProjectCounterRepository {
+
+    // Atomic counter maintenance, executed in the caller's transaction; 0 when the project is gone or deleted
+    int adjustTaskCounters(Long projectId, int totalDelta, int completedDelta);
+
+    // Rewrites the counters of the given projects from the tasks table
+    int recomputeTaskCounters(Collection<Long> projectIds);
+
+    // Marks the project as changed when no counter moves (renames, task edits)
+    int bumpRevision(Long projectId);
+}
@@ -0,0 +1,75 @@
+package com.internship.taskmanager.domain.repository;
+
+import com.internship.taskmanager.common.cache.EntityCacheEvictionEvent;
+import com.internship.taskmanager.domain.entity.Project;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+class ProjectCounterRepositoryImpl implements ProjectCounterRepository {
+
+    private static final String ADJUST =
+            "UPDATE projects SET " +
+            "total_task_count = total_task_count + ?, " +
+            "completed_task_count = completed_task_count + ?, " +
+            "revision = revision + 1 " +
+            "WHERE id = ? AND deleted_at IS NULL";
+
+    private static final String RECOMPUTE =
+            "UPDATE projects SET " +
+            "total_task_count = (SELECT COUNT(*) FROM tasks t WHERE t.project_id = projects.id), " +
+            "completed_task_count = (SELECT COUNT(*) FROM tasks t WHERE t.project_id = projects.id " +
+            "AND t.status = 'DONE'), " +
+            "revision = revision + 1 " +
+            "WHERE id IN (:projectIds)";
+
+    private static final String BUMP_REVISION =
+            "UPDATE projects SET revision = revision + 1 WHERE id = ?";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final ApplicationEventPublisher events;
+
+    ProjectCounterRepositoryImpl(JdbcTemplate jdbcTemplate, ApplicationEventPublisher events) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.events = events;
+    }
+
+    @Override
+    public int adjustTaskCounters(Long projectId, int totalDelta, int completedDelta) {
+        // Pending inserts (new project, new tasks) must reach the database before plain SQL runs
+        entityManager.flush();
+        int updated = jdbcTemplate.update(ADJUST, totalDelta, completedDelta, projectId);
+        events.publishEvent(new EntityCacheEvictionEvent(Project.class, List.of(projectId)));
+        return updated;
+    }
+
+    @Override
+    public int recomputeTaskCounters(Collection<Long> projectIds) {
+        if (projectIds.isEmpty()) {
+            return 0;
+        }
+        entityManager.flush();
+        int updated = namedJdbcTemplate.update(RECOMPUTE, Map.of("projectIds", projectIds));
+        events.publishEvent(new EntityCacheEvictionEvent(Project.class, List.copyOf(projectIds)));
+        return updated;
+    }
+
+    @Override
+    public int bumpRevision(Long projectId) {
+        entityManager.flush();
+        int updated = jdbcTemplate.update(BUMP_REVISION, projectId);
+        events.publishEvent(new EntityCacheEvictionEvent(Project.class, List.of(projectId)));
+        return updated;
+    }
+}
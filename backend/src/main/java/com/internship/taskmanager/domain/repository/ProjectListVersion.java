@@ -0,0 +1,9 @@
+package com.internship.taskmanager.domain.repository;
+
+/**
+ * Change version of a user's project list.
+ * Any project write bumps the revision sum, deletes lower the count and creates raise the max id,
+ * so two equal versions mean the same list.
+ */
+public record ProjectListVersion(Long projectCount, Long revisionSum, Long maxProjectId) {
+}
@@ -1,11 +1,92 @@
 package com.internship.taskmanager.domain.repository;
 
 import com.internship.taskmanager.domain.entity.Project;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-public interface ProjectRepository extends JpaRepository<Project, Long> {
+public interface ProjectRepository extends JpaRepository<Project, Long>, ProjectCounterRepository {
 
     List<Project> findByUserId(Long userId);
+
+    // Read path: task counts come from the persisted counters, O(1) per project
+    @Query("SELECT p.id AS id, p.user.id AS ownerId, p.title AS title, p.description AS description, " +
+           "p.totalTaskCount AS totalTasks, p.completedTaskCount AS completedTasks, p.version AS version, " +
+           "p.revision AS revision " +
+           "FROM Project p " +
+           "WHERE p.user.id = :userId " +
+           "ORDER BY p.id")
+    List<ProjectSummary> findSummariesByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT p.id AS id, p.user.id AS ownerId, p.title AS title, p.description AS description, " +
+           "p.totalTaskCount AS totalTasks, p.completedTaskCount AS completedTasks, p.version AS version, " +
+           "p.revision AS revision " +
+           "FROM Project p " +
+           "WHERE p.id = :projectId")
+    Optional<ProjectSummary> findSummaryById(@Param("projectId") Long projectId);
+
+    // Read model projection and refresh: summaries of many projects or many users at once
+    @Query("SELECT p.id AS id, p.user.id AS ownerId, p.title AS title, p.description AS description, " +
+           "p.totalTaskCount AS totalTasks, p.completedTaskCount AS completedTasks, p.version AS version, " +
+           "p.revision AS revision " +
+           "FROM Project p " +
+           "WHERE p.id IN :projectIds")
+    List<ProjectSummary> findSummariesByIdIn(@Param("projectIds") Collection<Long> projectIds);
+
+    @Query("SELECT p.id AS id, p.user.id AS ownerId, p.title AS title, p.description AS description, " +
+           "p.totalTaskCount AS totalTasks, p.completedTaskCount AS completedTasks, p.version AS version, " +
+           "p.revision AS revision " +
+           "FROM Project p " +
+           "WHERE p.user.id IN :userIds " +
+           "ORDER BY p.user.id, p.id")
+    List<ProjectSummary> findSummariesByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    // Dashboard: per-project counts by status and due date, one grouped query for all of a user's projects
+    @Query("SELECT new com.internship.taskmanager.domain.repository.ProjectTaskStats(p.id, p.title, COUNT(t.id), " +
+           "COALESCE(SUM(CASE WHEN t.status = com.internship.taskmanager.domain.entity.TaskStatus.DONE THEN 1 ELSE 0 END), 0), " +
+           "COALESCE(SUM(CASE WHEN t.status <> com.internship.taskmanager.domain.entity.TaskStatus.DONE " +
+           "AND t.dueDate < :today THEN 1 ELSE 0 END), 0), " +
+           "COALESCE(SUM(CASE WHEN t.status <> com.internship.taskmanager.domain.entity.TaskStatus.DONE " +
+           "AND t.dueDate BETWEEN :today AND :weekEnd THEN 1 ELSE 0 END), 0)) " +
+           "FROM Project p LEFT JOIN p.tasks t " +
+           "WHERE p.user.id = :userId " +
+           "GROUP BY p.id, p.title " +
+           "ORDER BY p.id")
+    List<ProjectTaskStats> findTaskStatsByUserId(
+            @Param("userId") Long userId,
+            @Param("today") LocalDate today,
+            @Param("weekEnd") LocalDate weekEnd
+    );
+
+    // ===== Change versions (ETags) =====
+
+    // Revision and owner of one project, without loading it
+    @Query("SELECT new com.internship.taskmanager.domain.repository.Owned(p.revision, p.user.id) " +
+           "FROM Project p WHERE p.id = :projectId")
+    Optional<Owned<Long>> findRevisionWithOwnerById(@Param("projectId") Long projectId);
+
+    // Version of a user's whole project list, answered from the (user_id, id) index
+    @Query("SELECT new com.internship.taskmanager.domain.repository.ProjectListVersion(" +
+           "COUNT(p), COALESCE(SUM(p.revision), 0), COALESCE(MAX(p.id), 0)) " +
+           "FROM Project p WHERE p.user.id = :userId")
+    ProjectListVersion findListVersionByUserId(@Param("userId") Long userId);
+
+    // ===== Counter reconciliation =====
+
+    @Query("SELECT p.id FROM Project p WHERE p.id > :afterId ORDER BY p.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    @Query("SELECT p.id AS projectId, p.totalTaskCount AS storedTotal, p.completedTaskCount AS storedCompleted, " +
+           "COUNT(t.id) AS actualTotal, " +
+           "COALESCE(SUM(CASE WHEN t.status = com.internship.taskmanager.domain.entity.TaskStatus.DONE THEN 1 ELSE 0 END), 0) AS actualCompleted " +
+           "FROM Project p LEFT JOIN p.tasks t " +
+           "WHERE p.id IN :projectIds " +
+           "GROUP BY p.id, p.totalTaskCount, p.completedTaskCount")
+    List<ProjectCounterDrift> findCounterDrift(@Param("projectIds") Collection<Long> projectIds);
 }
@@ -0,0 +1,33 @@
+package com.internship.taskmanager.domain.repository;
+
+/**
+ * Read-only projection of a project together with its task counts.
+ * Produced by an aggregate query so the task collection is never loaded.
+ */
+public interface ProjectSummary {
+
+    Long getId();
+
+    Long getOwnerId();
+
+    String getTitle();
+
+    String getDescription();
+
+    long getTotalTasks();
+
+    long getCompletedTasks();
+
+    // Optimistic-lock version, sent back by clients in If-Match
+    long getVersion();
+
+    // Change version of the project and its tasks, see Project#getRevision
+    long getRevision();
+
+    default int getProgressPercentage() {
+        if (getTotalTasks() == 0) {
+            return 0;
+        }
+        return (int) ((getCompletedTasks() * 100) / getTotalTasks());
+    }
+}
@@ -0,0 +1,8 @@
+package com.internship.taskmanager.domain.repository;
+
+/**
+ * Number of tasks of one project matched by a set-based statement, e.g. the rows a bulk
+ * status change is about to move.
+ */
+public record ProjectTaskCount(Long projectId, Long tasks) {
+}
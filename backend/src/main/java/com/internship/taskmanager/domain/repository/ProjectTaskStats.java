@@ -0,0 +1,15 @@
+package com.internship.taskmanager.domain.repository;
+
+/**
+ * Task counts of one project as of a given day, aggregated from the tasks table.
+ * Overdue and due-this-week only count tasks that are not done yet.
+ */
+public record ProjectTaskStats(
+        Long projectId,
+        String title,
+        Long totalTasks,
+        Long doneTasks,
+        Long overdueTasks,
+        Long dueThisWeekTasks
+) {
+}
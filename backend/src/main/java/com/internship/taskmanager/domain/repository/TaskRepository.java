@@ -4,16 +4,33 @@ import com.internship.taskmanager.domain.entity.Task;
 import com.internship.taskmanager.domain.entity.TaskStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskSearchRepository {
 
     // Original simple method
     List<Task> findByProjectId(Long projectId);
 
+    // Ownership lookup: the task plus its owner id, one indexed join (tasks of deleted projects are not found)
+    @Query("SELECT new com.internship.taskmanager.domain.repository.Owned(t, p.user.id) " +
+           "FROM Task t JOIN t.project p " +
+           "WHERE t.id = :taskId AND p.deletedAt IS NULL")
+    Optional<Owned<Task>> findWithOwnerById(@Param("taskId") Long taskId);
+
     // JPQL query for filtering and searching with pagination
     @Query("SELECT t FROM Task t " +
            "WHERE t.project.id = :projectId " +
@@ -25,4 +42,78 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
             @Param("title") String title,
             Pageable pageable
     );
+
+    // Keyset variant: seeks past the last seen id, no OFFSET and no count query
+    @Query("SELECT t FROM Task t " +
+           "WHERE t.project.id = :projectId " +
+           "AND t.id > :afterId " +
+           "AND (:status IS NULL OR t.status = :status) " +
+           "AND (:title IS NULL OR LOWER(t.title) LIKE :title) " +
+           "ORDER BY t.id")
+    Slice<Task> findSliceByProjectIdWithFilters(
+            @Param("projectId") Long projectId,
+            @Param("status") TaskStatus status,
+            @Param("title") String title,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
+
+    // Forward-only cursor for exports: rows arrive in fetch-size chunks instead of one big list
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT t FROM Task t " +
+           "WHERE t.project.id = :projectId " +
+           "AND (:status IS NULL OR t.status = :status) " +
+           "ORDER BY t.id")
+    Stream<Task> streamByProjectId(
+            @Param("projectId") Long projectId,
+            @Param("status") TaskStatus status
+    );
+
+    // ===== Set-based status transitions (ownership enforced inside the statement) =====
+
+    // Per-project number of rows updateStatusByIds would change (same predicate, grouped)
+    @Query("SELECT new com.internship.taskmanager.domain.repository.ProjectTaskCount(t.project.id, COUNT(t)) " +
+           "FROM Task t " +
+           "WHERE t.id IN :taskIds " +
+           "AND t.status <> :status " +
+           "AND t.project.id IN (SELECT p.id FROM Project p WHERE p.user.id = :userId) " +
+           "GROUP BY t.project.id")
+    List<ProjectTaskCount> countStatusChangesByProject(
+            @Param("taskIds") Collection<Long> taskIds,
+            @Param("status") TaskStatus status,
+            @Param("userId") Long userId
+    );
+
+    // Bulk updates bypass @Version, so they increment it themselves
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = :status, t.updatedAt = :now, t.version = t.version + 1 " +
+           "WHERE t.id IN :taskIds " +
+           "AND t.status <> :status " +
+           "AND t.project.id IN (SELECT p.id FROM Project p WHERE p.user.id = :userId)")
+    int updateStatusByIds(
+            @Param("taskIds") Collection<Long> taskIds,
+            @Param("status") TaskStatus status,
+            @Param("userId") Long userId,
+            @Param("now") LocalDateTime now
+    );
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = :status, t.updatedAt = :now, t.version = t.version + 1 " +
+           "WHERE t.project.id = :projectId " +
+           "AND t.status <> :status " +
+           "AND (:currentStatus IS NULL OR t.status = :currentStatus) " +
+           "AND (:dueBefore IS NULL OR t.dueDate < :dueBefore) " +
+           "AND t.project.id IN (SELECT p.id FROM Project p WHERE p.user.id = :userId)")
+    int updateStatusByFilter(
+            @Param("projectId") Long projectId,
+            @Param("currentStatus") TaskStatus currentStatus,
+            @Param("dueBefore") LocalDate dueBefore,
+            @Param("status") TaskStatus status,
+            @Param("userId") Long userId,
+            @Param("now") LocalDateTime now
+    );
 }
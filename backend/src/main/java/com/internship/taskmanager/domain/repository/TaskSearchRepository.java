@@ -0,0 +1,14 @@
+package com.internship.taskmanager.domain.repository;
+
+import com.internship.taskmanager.domain.entity.Task;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+/**
+ * Ranked search over task title and description.
+ * Index-backed full-text search on PostgreSQL, portable LIKE matching elsewhere.
+ */
+public interface TaskSearchRepository {
+
+    Slice<Task> searchInProject(Long projectId, String query, Pageable pageable);
+}
@@ -0,0 +1,113 @@
+package com.internship.taskmanager.domain.repository;
+
+import com.internship.taskmanager.domain.entity.Task;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+class TaskSearchRepositoryImpl implements TaskSearchRepository {
+
+    // Must match the expression of the idx_tasks_search GIN index (V3__search_indexes.sql) exactly
+    static final String SEARCH_VECTOR =
+            "to_tsvector('simple', coalesce(t.title, '') || ' ' || coalesce(t.description, ''))";
+
+    private static final int MAX_FALLBACK_TERMS = 5;
+
+    private final EntityManager entityManager;
+    private final boolean postgres;
+    // Only this many matches are ranked, so the cost of a search does not grow with the project
+    private final int maxCandidates;
+
+    TaskSearchRepositoryImpl(
+            EntityManager entityManager,
+            @Value("${taskmanager.search.max-candidates:1000}") int maxCandidates
+    ) {
+        this.entityManager = entityManager;
+        this.maxCandidates = maxCandidates;
+        this.postgres = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect() instanceof PostgreSQLDialect;
+    }
+
+    @Override
+    public Slice<Task> searchInProject(Long projectId, String query, Pageable pageable) {
+        // Pages past the candidate cap do not exist: the caller has to narrow the query
+        long remaining = maxCandidates - pageable.getOffset();
+        if (remaining <= 0) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+        int limit = (int) Math.min(pageable.getPageSize() + 1L, remaining);
+
+        List<Task> rows = postgres
+                ? fullTextSearch(projectId, query, pageable.getOffset(), limit)
+                : likeSearch(projectId, query, pageable.getOffset(), limit);
+
+        // One extra row was fetched to detect whether another page exists
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<Task> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    // The inner LIMIT caps the GIN matches before ts_rank runs, so only maxCandidates rows are ranked
+    @SuppressWarnings("unchecked")
+    private List<Task> fullTextSearch(Long projectId, String query, long offset, int limit) {
+        String sql = "SELECT t.* FROM (" +
+                "SELECT * FROM tasks t " +
+                "WHERE t.project_id = :projectId " +
+                "AND " + SEARCH_VECTOR + " @@ plainto_tsquery('simple', :query) " +
+                "LIMIT :candidates) t " +
+                "ORDER BY ts_rank(" + SEARCH_VECTOR + ", plainto_tsquery('simple', :query)) DESC, t.id " +
+                "LIMIT :limit OFFSET :offset";
+
+        return entityManager.createNativeQuery(sql, Task.class)
+                .setParameter("projectId", projectId)
+                .setParameter("query", query)
+                .setParameter("candidates", maxCandidates)
+                .setParameter("limit", limit)
+                .setParameter("offset", offset)
+                .getResultList();
+    }
+
+    // Portable fallback (H2): every term must appear in title or description, title hits rank first
+    private List<Task> likeSearch(Long projectId, String query, long offset, int limit) {
+        List<String> terms = Arrays.stream(query.trim().toLowerCase().split("\\s+"))
+                .filter(term -> !term.isEmpty())
+                .limit(MAX_FALLBACK_TERMS)
+                .toList();
+
+        StringBuilder where = new StringBuilder("t.project.id = :projectId");
+        List<String> titleRanks = new ArrayList<>();
+        for (int i = 0; i < terms.size(); i++) {
+            where.append(" AND (LOWER(t.title) LIKE :term").append(i).append(" ESCAPE '\\'")
+                    .append(" OR LOWER(t.description) LIKE :term").append(i).append(" ESCAPE '\\')");
+            titleRanks.add("CASE WHEN LOWER(t.title) LIKE :term" + i + " ESCAPE '\\' THEN 1 ELSE 0 END");
+        }
+        String rank = titleRanks.isEmpty() ? "0" : String.join(" + ", titleRanks);
+
+        TypedQuery<Task> typedQuery = entityManager.createQuery(
+                "SELECT t FROM Task t WHERE " + where + " ORDER BY " + rank + " DESC, t.id", Task.class);
+        typedQuery.setParameter("projectId", projectId);
+        for (int i = 0; i < terms.size(); i++) {
+            typedQuery.setParameter("term" + i, "%" + escapeLike(terms.get(i)) + "%");
+        }
+        return typedQuery
+                .setFirstResult((int) offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    // Search terms are literal text: % and _ must not act as wildcards
+    private static String escapeLike(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,16 @@
+package com.internship.taskmanager.security;
+
+import io.swagger.v3.oas.annotations.Parameter;
+
+import java.lang.annotation.*;
+
+/**
+ * Injects the id of the authenticated user into a controller method parameter.
+ * Resolved from the JWT principal by {@link CurrentUserIdArgumentResolver}.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Parameter(hidden = true)
+public @interface CurrentUserId {
+}
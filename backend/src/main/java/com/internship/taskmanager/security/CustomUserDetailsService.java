@@ -2,16 +2,26 @@ package com.internship.taskmanager.security;
 
 
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.internship.taskmanager.domain.entity.User;
 import com.internship.taskmanager.domain.repository.UserRepository;
 import org.springframework.security.core.userdetails.*;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
 
+    // Short-lived principals for tokens issued before the user id claim existed
+    private final Cache<String, AuthenticatedUser> principalCache = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofSeconds(60))
+            .build();
+
     public CustomUserDetailsService(UserRepository userRepository) {
         this.userRepository = userRepository;
     }
@@ -24,10 +34,18 @@ public class CustomUserDetailsService implements UserDetailsService {
                 .orElseThrow(() ->
                         new UsernameNotFoundException("User not found: " + email));
 
-        return org.springframework.security.core.userdetails.User
-                .withUsername(user.getEmail())
-                .password(user.getPassword())
-                .authorities("USER")
-                .build();
+        return new AuthenticatedUser(user.getId(), user.getEmail(), user.getPassword());
+    }
+
+    // Principal without credentials, cached for a short time
+    public AuthenticatedUser loadPrincipal(String email)
+            throws UsernameNotFoundException {
+
+        return principalCache.get(email.toLowerCase(), key -> {
+            User user = userRepository.findByEmail(key)
+                    .orElseThrow(() ->
+                            new UsernameNotFoundException("User not found: " + email));
+            return new AuthenticatedUser(user.getId(), user.getEmail());
+        });
     }
 }
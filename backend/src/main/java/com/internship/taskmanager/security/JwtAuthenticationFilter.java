@@ -2,13 +2,17 @@ package com.internship.taskmanager.security;
 
 
 
+import com.internship.taskmanager.common.logging.LogSampler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.*;
 import jakarta.servlet.http.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.*;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.*;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
-import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
@@ -16,13 +20,36 @@ import java.io.IOException;
 @SuppressWarnings("null")
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final Logger log = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
+
     private final JwtUtil jwtUtil;
     private final CustomUserDetailsService userDetailsService;
 
+    // Outcome of every request's bearer token: authenticated, rejected (bad/expired/unknown user) or absent
+    private final Counter authenticatedRequests;
+    private final Counter rejectedRequests;
+    private final Counter anonymousRequests;
+
+    // Bad tokens can arrive at request rate: log a sample, count the rest
+    private final LogSampler rejectionSampler;
+
     public JwtAuthenticationFilter(JwtUtil jwtUtil,
-                                   CustomUserDetailsService userDetailsService) {
+                                   CustomUserDetailsService userDetailsService,
+                                   MeterRegistry meterRegistry,
+                                   LogSampler rejectionSampler) {
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
+        this.rejectionSampler = rejectionSampler;
+        this.authenticatedRequests = outcomeCounter(meterRegistry, "authenticated");
+        this.rejectedRequests = outcomeCounter(meterRegistry, "rejected");
+        this.anonymousRequests = outcomeCounter(meterRegistry, "absent");
+    }
+
+    private static Counter outcomeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("auth.jwt.requests")
+                .description("Requests by bearer token verification outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
     }
 
     @Override
@@ -37,20 +64,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
 
             String token = authHeader.substring(7);
-            System.out.println("Processing token: " + token.substring(0, Math.min(token.length(), 10)) + "...");
 
-            if (jwtUtil.isTokenValid(token)) {
-                String username = jwtUtil.extractUsername(token);
-                System.out.println("Token valid for user: " + username);
+            // One verification per request: the claims are reused for the principal
+            AuthenticatedUser principal = jwtUtil.verify(token)
+                    .map(this::resolvePrincipal)
+                    .orElse(null);
 
-                UserDetails userDetails =
-                        userDetailsService.loadUserByUsername(username);
+            if (principal != null) {
+                log.debug("Bearer token valid for user {}", principal.getUsername());
+                authenticatedRequests.increment();
 
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(
-                                userDetails,
+                                principal,
                                 null,
-                                userDetails.getAuthorities()
+                                principal.getAuthorities()
                         );
 
                 authentication.setDetails(
@@ -60,11 +88,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
                 SecurityContextHolder.getContext()
                         .setAuthentication(authentication);
+            } else {
+                rejectedRequests.increment();
+                if (rejectionSampler.tryAcquire()) {
+                    log.atWarn()
+                            .addKeyValue("path", request.getRequestURI())
+                            .addKeyValue("suppressed", rejectionSampler.takeSuppressed())
+                            .log("Rejected invalid or expired bearer token");
+                }
             }
         } else {
-            if (!"OPTIONS".equalsIgnoreCase(request.getMethod())) {
-                System.out.println("DEBUG: No Bearer token found in request to " + request.getRequestURI());
-            }
+            anonymousRequests.increment();
+            log.debug("No bearer token on {} {}", request.getMethod(), request.getRequestURI());
         }
 
 
@@ -73,6 +108,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-   
+    // Principal straight from the verified claims; legacy tokens fall back to a cached lookup
+    private AuthenticatedUser resolvePrincipal(TokenClaims claims) {
+        if (claims.getUserId() != null) {
+            return new AuthenticatedUser(claims.getUserId(), claims.getSubject());
+        }
+        try {
+            return userDetailsService.loadPrincipal(claims.getSubject());
+        } catch (UsernameNotFoundException e) {
+            return null;
+        }
+    }
 
 }
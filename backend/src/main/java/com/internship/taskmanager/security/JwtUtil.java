@@ -1,53 +1,139 @@
 package com.internship.taskmanager.security;
 
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
 
 @Component
 public class JwtUtil {
 
     // Hardcoded secret for development (In production, use environment variables!)
     private static final String SECRET_STRING = "ThisIsASecretKeyThatIsAtLeast32BytesLongForHS256Security";
-    private final Key key = Keys.hmacShaKeyFor(SECRET_STRING.getBytes(java.nio.charset.StandardCharsets.UTF_8));
+    private final Key key = Keys.hmacShaKeyFor(SECRET_STRING.getBytes(StandardCharsets.UTF_8));
+
+    // Parsers are immutable and thread-safe: build once, reuse for every request
+    private final JwtParser parser = Jwts.parserBuilder()
+            .setSigningKey(key)
+            .build();
 
     // Token validity: 24 hours
     private final long EXPIRATION_TIME = 1000 * 60 * 60 * 24;
 
+    // Claim holding the user id, so requests never need to look the user up
+    static final String USER_ID_CLAIM = "uid";
+
+    private static final long MAX_CACHED_TOKENS = 50_000;
+
+    // Tokens that already passed signature verification, keyed by SHA-256 digest, evicted at token expiry
+    private final Cache<String, TokenClaims> verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_TOKENS)
+            .expireAfter(Expiry.<String, TokenClaims>creating((digest, claims) -> {
+                Duration remaining = Duration.between(Instant.now(), claims.getExpiresAt());
+                return remaining.isNegative() ? Duration.ZERO : remaining;
+            }))
+            .recordStats()
+            .build();
+
+    private final Timer validVerifications;
+    private final Timer invalidVerifications;
+
+    public JwtUtil(MeterRegistry meterRegistry) {
+        this.validVerifications = Timer.builder("jwt.verify")
+                .description("Signature verification and parsing of bearer tokens")
+                .tag("result", "valid")
+                .register(meterRegistry);
+        this.invalidVerifications = Timer.builder("jwt.verify")
+                .description("Signature verification and parsing of bearer tokens")
+                .tag("result", "invalid")
+                .register(meterRegistry);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt.verified.tokens");
+        Gauge.builder("jwt.verified.tokens.hit.ratio", verifiedTokens, c -> c.stats().hitRate())
+                .description("Share of token verifications served from the verified-token cache")
+                .register(meterRegistry);
+    }
+
     // Generate token
-    public String generateToken(String username) {
+    public String generateToken(String username, Long userId) {
         return Jwts.builder()
                 .setSubject(username) // WHO is this token for
+                .claim(USER_ID_CLAIM, userId)
                 .setIssuedAt(new Date()) // WHEN it was created
                 .setExpiration(new Date(System.currentTimeMillis() + EXPIRATION_TIME))
                 .signWith(key) // SIGN the token
                 .compact();
     }
 
+    // Verify token once and return its claims (empty when invalid or expired)
+    public Optional<TokenClaims> verify(String token) {
+        String digest = digest(token);
+        TokenClaims cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            // Cache entries expire lazily; never trust one past the token's own expiry
+            return cached.getExpiresAt().isAfter(Instant.now()) ? Optional.of(cached) : Optional.empty();
+        }
+
+        long start = System.nanoTime();
+        try {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            Number userId = claims.get(USER_ID_CLAIM, Number.class);
+            TokenClaims verified = new TokenClaims(
+                    claims.getSubject(),
+                    userId != null ? userId.longValue() : null,
+                    claims.getExpiration().toInstant());
+            validVerifications.record(Duration.ofNanos(System.nanoTime() - start));
+            verifiedTokens.put(digest, verified);
+            return Optional.of(verified);
+        } catch (JwtException | IllegalArgumentException e) {
+            invalidVerifications.record(Duration.ofNanos(System.nanoTime() - start));
+            return Optional.empty();
+        }
+    }
+
     // Extract username from token
     public String extractUsername(String token) {
-        return getClaims(token).getSubject();
+        return requireValid(token).getSubject();
+    }
+
+    // Extract user id from token (null for tokens issued without the claim)
+    public Long extractUserId(String token) {
+        return requireValid(token).getUserId();
     }
 
     // Validate token
     public boolean isTokenValid(String token) {
-        try {
-            getClaims(token);
-            return true;
-        } catch (JwtException e) {
-            return false;
-        }
+        return verify(token).isPresent();
+    }
+
+    private TokenClaims requireValid(String token) {
+        return verify(token).orElseThrow(() -> new JwtException("Invalid or expired token"));
     }
 
-    private Claims getClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 }
@@ -1,5 +1,10 @@
 package com.internship.taskmanager.security;
 
+import com.internship.taskmanager.common.logging.LogSampler;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.security.autoconfigure.actuate.web.servlet.EndpointRequest;
 import org.springframework.context.annotation.*;
 import org.springframework.security.authentication.*;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -21,17 +26,30 @@ import java.util.Arrays;
 @EnableWebSecurity
 public class SecurityConfig {
 
+    private static final Logger log = LoggerFactory.getLogger(SecurityConfig.class);
+
     private final JwtUtil jwtUtil;
     private final CustomUserDetailsService userDetailsService;
+    private final MeterRegistry meterRegistry;
+
+    // Shared with GlobalExceptionHandler, so a token storm cannot flood the log (see LoggingConfig)
+    private final LogSampler authFailureSampler;
 
-    public SecurityConfig(JwtUtil jwtUtil, CustomUserDetailsService userDetailsService) {
+    public SecurityConfig(
+            JwtUtil jwtUtil,
+            CustomUserDetailsService userDetailsService,
+            MeterRegistry meterRegistry,
+            LogSampler authFailureSampler
+    ) {
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
+        this.meterRegistry = meterRegistry;
+        this.authFailureSampler = authFailureSampler;
     }
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(jwtUtil, userDetailsService);
+        return new JwtAuthenticationFilter(jwtUtil, userDetailsService, meterRegistry, authFailureSampler);
     }
 
     @Bean
@@ -58,20 +76,22 @@ public class SecurityConfig {
                     "/v3/api-docs/**",
                     "/error"
                 ).permitAll()
+                // Scraped / probed without a token, but only on the loopback management port:
+                // EndpointRequest does not match requests served by the API port
+                .requestMatchers(EndpointRequest.to("health", "prometheus")).permitAll()
                 .requestMatchers(org.springframework.http.HttpMethod.OPTIONS, "/**").permitAll()
                 .anyRequest().authenticated()
             )
             
             .exceptionHandling(e -> e
                 .authenticationEntryPoint((request, response, authException) -> {
-                    System.out.println("Authentication failed: " + authException.getMessage());
-                    authException.printStackTrace(); // Print full stack trace to logs
+                    logSampled("Authentication failed", request.getRequestURI(), authException.getMessage());
                     response.setContentType("application/json");
                     response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
                     response.getWriter().write("{\"error\": \"Unauthorized\", \"message\": \"" + authException.getMessage() + "\"}");
                 })
                 .accessDeniedHandler((request, response, accessDeniedException) -> {
-                    System.out.println("Access denied: " + accessDeniedException.getMessage());
+                    logSampled("Access denied", request.getRequestURI(), accessDeniedException.getMessage());
                     response.setContentType("application/json");
                     response.setStatus(HttpServletResponse.SC_FORBIDDEN);
                     response.getWriter().write("{\"error\": \"Forbidden\", \"message\": \"" + accessDeniedException.getMessage() + "\"}");
@@ -84,6 +104,17 @@ public class SecurityConfig {
         return http.build();
     }
 
+    // Expected client errors: no stack trace, rate-limited
+    private void logSampled(String message, String path, String reason) {
+        if (authFailureSampler.tryAcquire()) {
+            log.atWarn()
+                    .addKeyValue("path", path)
+                    .addKeyValue("reason", reason)
+                    .addKeyValue("suppressed", authFailureSampler.takeSuppressed())
+                    .log(message);
+        }
+    }
+
     // Password hashing
     @Bean
     public PasswordEncoder passwordEncoder() {
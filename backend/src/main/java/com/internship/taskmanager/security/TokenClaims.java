@@ -0,0 +1,33 @@
+package com.internship.taskmanager.security;
+
+import java.time.Instant;
+
+/**
+ * Immutable view of the claims of a verified token.
+ * Safe to share between requests through the verified-token cache.
+ */
+public class TokenClaims {
+
+    private final String subject;
+    private final Long userId;
+    private final Instant expiresAt;
+
+    public TokenClaims(String subject, Long userId, Instant expiresAt) {
+        this.subject = subject;
+        this.userId = userId;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    /** Null for tokens issued before the user id claim existed. */
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+}
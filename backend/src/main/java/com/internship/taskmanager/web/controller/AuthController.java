@@ -2,12 +2,16 @@ package com.internship.taskmanager.web.controller;
 
 
 
+import com.internship.taskmanager.security.AuthenticatedUser;
 import com.internship.taskmanager.security.JwtUtil;
 import com.internship.taskmanager.web.dto.auth.*;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.*;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -16,11 +20,22 @@ public class AuthController {
 
     private final AuthenticationManager authenticationManager;
     private final JwtUtil jwtUtil;
+    private final Counter successfulLogins;
+    private final Counter failedLogins;
 
     public AuthController(AuthenticationManager authenticationManager,
-                          JwtUtil jwtUtil) {
+                          JwtUtil jwtUtil,
+                          MeterRegistry meterRegistry) {
         this.authenticationManager = authenticationManager;
         this.jwtUtil = jwtUtil;
+        this.successfulLogins = Counter.builder("auth.login")
+                .description("Login attempts by result")
+                .tag("result", "success")
+                .register(meterRegistry);
+        this.failedLogins = Counter.builder("auth.login")
+                .description("Login attempts by result")
+                .tag("result", "failure")
+                .register(meterRegistry);
     }
 
     @PostMapping("/login")
@@ -29,15 +44,23 @@ public class AuthController {
 
         String email = request.getEmail(); // Let UserDetailsService handle casing via IgnoreCase
         
-        Authentication authentication =
-                authenticationManager.authenticate(
-                        new UsernamePasswordAuthenticationToken(
-                                email,
-                                request.getPassword()
-                        )
-                );
-
-        String token = jwtUtil.generateToken(email); // Token gets the email as typed/sent
+        Authentication authentication;
+        try {
+            authentication = authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(
+                            email,
+                            request.getPassword()
+                    )
+            );
+        } catch (AuthenticationException e) {
+            failedLogins.increment();
+            throw e;
+        }
+        successfulLogins.increment();
+
+        // The principal carries the user id, embedded so requests never re-resolve the user
+        AuthenticatedUser principal = (AuthenticatedUser) authentication.getPrincipal();
+        String token = jwtUtil.generateToken(principal.getUsername(), principal.getId());
 
         return ResponseEntity.ok(new AuthResponse(token, email));
     }
@@ -0,0 +1,26 @@
+package com.internship.taskmanager.web.controller;
+
+import com.internship.taskmanager.application.service.DashboardService;
+import com.internship.taskmanager.security.CurrentUserId;
+import com.internship.taskmanager.web.dto.dashboard.DashboardResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/dashboard")
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    public DashboardController(DashboardService dashboardService) {
+        this.dashboardService = dashboardService;
+    }
+
+    // GET per-project and global task counts of the authenticated user (one round trip for the home screen)
+    @GetMapping
+    public ResponseEntity<DashboardResponse> getDashboard(@CurrentUserId Long userId) {
+        return ResponseEntity.ok(DashboardResponse.from(dashboardService.getDashboard(userId)));
+    }
+}
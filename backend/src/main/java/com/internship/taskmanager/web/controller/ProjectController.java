@@ -1,15 +1,19 @@
 package com.internship.taskmanager.web.controller;
 
+import com.internship.taskmanager.application.readmodel.ProjectListing;
 import com.internship.taskmanager.application.service.ProjectService;
-import com.internship.taskmanager.domain.repository.UserRepository;
+import com.internship.taskmanager.common.VersionTag;
 import com.internship.taskmanager.domain.entity.Project;
-import com.internship.taskmanager.domain.entity.User;
+import com.internship.taskmanager.domain.repository.ProjectListVersion;
+import com.internship.taskmanager.security.CurrentUserId;
 import com.internship.taskmanager.web.dto.project.*;
 
 import jakarta.validation.Valid;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 
 import java.util.List;
@@ -19,89 +23,61 @@ import java.util.List;
 public class ProjectController {
 
     private final ProjectService projectService;
-    private final UserRepository userRepository;
 
-    public ProjectController(ProjectService projectService, UserRepository userRepository) {
+    public ProjectController(ProjectService projectService) {
         this.projectService = projectService;
-        this.userRepository = userRepository;
     }
 
     // CREATE project
     @PostMapping
     public ResponseEntity<ProjectResponse> createProject(
             @Valid @RequestBody CreateProjectRequest request,
-            Authentication authentication
+            @CurrentUserId Long userId
     ) {
-        // Get user email from JWT
-        String email = authentication.getName();
-        User user = userRepository.findByEmail(email.toLowerCase())
-                .orElseThrow(() -> new IllegalArgumentException("User not found: " + email));
-
         Project project = projectService.createProject(
                 request.getTitle(),
                 request.getDescription(),
-                user.getId()
+                userId
         );
 
-        return ResponseEntity.ok(new ProjectResponse(
-                project.getId(),
-                project.getTitle(),
-                project.getDescription(),
-                project.getTotalTasks(),
-                (int) project.getCompletedTasks(),
-                project.getProgressPercentage()
-        ));
+        return ResponseEntity.ok(ProjectResponse.from(
+                projectService.getProjectSummary(project.getId(), userId)));
     }
 
-    // GET all my projects
+    // GET all my projects (served from the read model)
     @GetMapping
-    public ResponseEntity<List<ProjectResponse>> getMyProjects(Authentication authentication) {
-        String email = authentication.getName();
-        User user = userRepository.findByEmail(email.toLowerCase())
-                .orElseThrow(() -> new IllegalArgumentException("User not found: " + email));
- 
-        List<ProjectResponse> responses = projectService.getProjectsByUser(user.getId())
+    public ResponseEntity<List<ProjectResponse>> getMyProjects(@CurrentUserId Long userId, WebRequest webRequest) {
+        // ETag and body come from the same snapshot
+        ProjectListing listing = projectService.getProjectListing(userId);
+        ProjectListVersion version = listing.version();
+        String etag = "\"projects-" + version.projectCount() + "-" + version.revisionSum()
+                + "-" + version.maxProjectId() + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return null; // 304, nothing loaded or serialized
+        }
+
+        List<ProjectResponse> responses = listing.projects()
                 .stream()
-                .map(p -> new ProjectResponse(
-                        p.getId(),
-                        p.getTitle(),
-                        p.getDescription(),
-                        p.getTotalTasks(),
-                        (int) p.getCompletedTasks(),
-                        p.getProgressPercentage()
-                ))
+                .map(ProjectResponse::from)
                 .toList();
 
-        return ResponseEntity.ok(responses);
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(responses);
     }
 
     // ✅ PROGRESS calculation endpoint
     @GetMapping("/{projectId}/progress")
-    public ResponseEntity<ProjectResponse> getProjectProgress(@PathVariable Long projectId, Authentication authentication) {
-        String email = authentication.getName();
-        User user = userRepository.findByEmail(email.toLowerCase())
-                .orElseThrow(() -> new IllegalArgumentException("User not found: " + email));
-
-        Project project = projectService.getProject(projectId, user.getId());
-        
-        return ResponseEntity.ok(new ProjectResponse(
-                project.getId(),
-                project.getTitle(),
-                project.getDescription(),
-                project.getTotalTasks(),
-                (int) project.getCompletedTasks(),
-                project.getProgressPercentage()
-        ));
+    public ResponseEntity<ProjectResponse> getProjectProgress(@PathVariable Long projectId, @CurrentUserId Long userId) {
+        return ResponseEntity.ok(ProjectResponse.from(
+                projectService.getProjectSummary(projectId, userId)));
     }
 
     // DELETE project
     @DeleteMapping("/{projectId}")
-    public ResponseEntity<Void> deleteProject(@PathVariable Long projectId, Authentication authentication) {
-        String email = authentication.getName();
-        User user = userRepository.findByEmail(email.toLowerCase())
-                .orElseThrow(() -> new IllegalArgumentException("User not found: " + email));
-
-        projectService.deleteProject(projectId, user.getId());
+    public ResponseEntity<Void> deleteProject(@PathVariable Long projectId, @CurrentUserId Long userId) {
+        projectService.deleteProject(projectId, userId);
         return ResponseEntity.noContent().build();
     }
 
@@ -110,26 +86,20 @@ public class ProjectController {
     public ResponseEntity<ProjectResponse> updateProject(
             @PathVariable Long projectId,
             @Valid @RequestBody UpdateProjectRequest request,
-            Authentication authentication
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @CurrentUserId Long userId
     ) {
-        String email = authentication.getName();
-        User user = userRepository.findByEmail(email.toLowerCase())
-                .orElseThrow(() -> new IllegalArgumentException("User not found: " + email));
-
         Project project = projectService.updateProject(
                 projectId,
                 request.getTitle(),
                 request.getDescription(),
-                user.getId()
+                userId,
+                VersionTag.parseIfMatch(ifMatch)
         );
 
-        return ResponseEntity.ok(new ProjectResponse(
-                project.getId(),
-                project.getTitle(),
-                project.getDescription(),
-                project.getTotalTasks(),
-                (int) project.getCompletedTasks(),
-                project.getProgressPercentage()
-        ));
+        ProjectResponse response = ProjectResponse.from(projectService.getProjectSummary(project.getId(), userId));
+        return ResponseEntity.ok()
+                .eTag(VersionTag.format(response.getVersion()))
+                .body(response);
     }
 }
@@ -1,28 +1,72 @@
 package com.internship.taskmanager.web.controller;
 
+import com.internship.taskmanager.application.service.TaskImportService;
 import com.internship.taskmanager.application.service.TaskService;
+import com.internship.taskmanager.application.service.Versioned;
+import com.internship.taskmanager.common.CursorCodec;
+import com.internship.taskmanager.common.VersionTag;
 import com.internship.taskmanager.domain.entity.Task;
 import com.internship.taskmanager.domain.entity.TaskStatus;
-import com.internship.taskmanager.domain.entity.User;
+import com.internship.taskmanager.security.CurrentUserId;
 import com.internship.taskmanager.web.dto.task.CreateTaskRequest;
+import com.internship.taskmanager.web.dto.task.CreateTasksBatchRequest;
+import com.internship.taskmanager.web.dto.task.CreateTasksBatchResponse;
+import com.internship.taskmanager.web.dto.task.TaskImportResponse;
+import com.internship.taskmanager.web.dto.task.TaskPageResponse;
 import com.internship.taskmanager.web.dto.task.TaskResponse;
-import com.internship.taskmanager.domain.repository.UserRepository;
+import com.internship.taskmanager.web.dto.task.TaskSearchResponse;
+import com.internship.taskmanager.web.dto.task.TaskSliceResponse;
+import com.internship.taskmanager.web.dto.task.UpdateTasksStatusRequest;
+import com.internship.taskmanager.web.dto.task.UpdateTasksStatusResponse;
+import com.internship.taskmanager.web.export.TaskExportFormat;
+import com.internship.taskmanager.web.export.TaskExportWriter;
+import com.internship.taskmanager.web.export.TaskImportReader;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/tasks")
 public class TaskController {
 
     private final TaskService taskService;
-    private final UserRepository userRepository;
+    private final TaskImportService taskImportService;
+    private final JsonMapper jsonMapper;
+    private final Validator validator;
+    private final int maxImportRecordLength;
+    // Per-line error messages kept in an import report; further failures are only counted
+    private final int maxImportErrors;
 
-    public TaskController(TaskService taskService, UserRepository userRepository) {
+    public TaskController(
+            TaskService taskService,
+            TaskImportService taskImportService,
+            JsonMapper jsonMapper,
+            Validator validator,
+            @Value("${taskmanager.import.max-record-length:65536}") int maxImportRecordLength,
+            @Value("${taskmanager.import.max-errors:1000}") int maxImportErrors
+    ) {
         this.taskService = taskService;
-        this.userRepository = userRepository;
+        this.taskImportService = taskImportService;
+        this.jsonMapper = jsonMapper;
+        this.validator = validator;
+        this.maxImportRecordLength = maxImportRecordLength;
+        this.maxImportErrors = maxImportErrors;
     }
 
     // CREATE task
@@ -30,87 +74,186 @@ public class TaskController {
     public ResponseEntity<TaskResponse> createTask(
             @Valid @RequestBody CreateTaskRequest request,
             @RequestParam Long projectId,
-            Authentication authentication
+            @CurrentUserId Long userId
     ) {
-        String email = authentication.getName();
-        User user = userRepository.findByEmail(email.toLowerCase())
-                .orElseThrow(() -> new IllegalArgumentException("User not found: " + email));
-
         Task task = taskService.createTask(
                 request.getTitle(),
                 request.getDescription(),
                 request.getDueDate(),
                 projectId,
-                user.getId()
+                userId
         );
 
-        return ResponseEntity.ok(new TaskResponse(
-                task.getId(),
-                task.getTitle(),
-                task.getDescription(),
-                task.getDueDate(),
-                task.getStatus()
-        ));
+        return ResponseEntity.ok(TaskResponse.from(task));
+    }
+
+    // CREATE many tasks in one project
+    @PostMapping("/batch")
+    public ResponseEntity<CreateTasksBatchResponse> createTasks(
+            @Valid @RequestBody CreateTasksBatchRequest request,
+            @RequestParam Long projectId,
+            @CurrentUserId Long userId
+    ) {
+        List<Task> tasks = request.getTasks().stream()
+                .map(t -> new Task(t.getTitle(), t.getDescription(), t.getDueDate()))
+                .toList();
+
+        List<Long> ids = taskService.createTasks(tasks, projectId, userId);
+
+        return ResponseEntity.ok(new CreateTasksBatchResponse(ids.size(), ids));
     }
 
     // GET tasks (pagination + filters)
     @GetMapping
-    public ResponseEntity<Page<TaskResponse>> getTasks(
+    public ResponseEntity<TaskPageResponse> getTasks(
             @RequestParam Long projectId,
             @RequestParam(required = false) TaskStatus status,
             @RequestParam(required = false) String title,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            Authentication authentication
+            @CurrentUserId Long userId,
+            WebRequest webRequest
     ) {
-        String email = authentication.getName();
-        User user = userRepository.findByEmail(email.toLowerCase())
-                .orElseThrow(() -> new IllegalArgumentException("User not found: " + email));
+        // ETags are per URL, so the project revision alone covers every filter/page combination
+        Versioned<Page<Task>> tasksPage = taskService.getTasksByProjectWithFiltersIfChanged(
+                projectId, status, title, page, size, userId,
+                revision -> webRequest.checkNotModified(tasksETag(projectId, revision))
+        );
+        if (tasksPage.value() == null) {
+            return null; // 304, nothing loaded or serialized
+        }
+
+        // Serialized straight from the entities, see TaskPageResponse
+        return ResponseEntity.ok()
+                .eTag(tasksETag(projectId, tasksPage.revision()))
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(new TaskPageResponse(tasksPage.value()));
+    }
 
-        Page<Task> tasksPage = taskService.getTasksByProjectWithFilters(
-                projectId, status, title, page, size, user.getId()
+    // GET tasks with cursor (keyset) pagination, no total count
+    @GetMapping("/scroll")
+    public ResponseEntity<TaskSliceResponse> scrollTasks(
+            @RequestParam Long projectId,
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @CurrentUserId Long userId
+    ) {
+        Slice<Task> slice = taskService.getTasksByProjectAfterCursor(
+                projectId, status, title, CursorCodec.decode(cursor), size, userId
         );
 
-        Page<TaskResponse> responsePage = tasksPage.map(task -> new TaskResponse(
-                task.getId(),
-                task.getTitle(),
-                task.getDescription(),
-                task.getDueDate(),
-                task.getStatus()
-        ));
+        List<TaskResponse> items = slice.getContent().stream()
+                .map(TaskResponse::from)
+                .toList();
+
+        String nextCursor = slice.hasNext() && !items.isEmpty()
+                ? CursorCodec.encode(items.get(items.size() - 1).getId())
+                : null;
+
+        return ResponseEntity.ok(new TaskSliceResponse(items, nextCursor, slice.hasNext()));
+    }
+
+    // SEARCH tasks (ranked full-text over title and description)
+    @GetMapping("/search")
+    public ResponseEntity<TaskSearchResponse> searchTasks(
+            @RequestParam Long projectId,
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @CurrentUserId Long userId
+    ) {
+        Slice<Task> slice = taskService.searchTasks(projectId, query, page, size, userId);
 
-        return ResponseEntity.ok(responsePage);
+        List<TaskResponse> items = slice.getContent().stream()
+                .map(TaskResponse::from)
+                .toList();
+
+        return ResponseEntity.ok(new TaskSearchResponse(items, page, size, slice.hasNext()));
+    }
+
+    // EXPORT all tasks of a project as NDJSON or CSV (streamed, constant memory)
+    @GetMapping("/export")
+    public void exportTasks(
+            @RequestParam Long projectId,
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @CurrentUserId Long userId,
+            HttpServletResponse response
+    ) throws IOException {
+        TaskExportWriter writer = TaskExportWriter.create(
+                TaskExportFormat.from(format), response, jsonMapper, projectId);
+
+        taskService.exportTasks(projectId, status, userId, writer);
+        writer.finish();
+    }
+
+    // IMPORT tasks from a streamed NDJSON or CSV body (chunked commits, per-line error report, partial on abort)
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv", "text/plain"})
+    public ResponseEntity<TaskImportResponse> importTasks(
+            @RequestParam Long projectId,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @CurrentUserId Long userId,
+            HttpServletRequest request
+    ) throws IOException {
+        BufferedReader body = new BufferedReader(
+                new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8));
+        TaskImportReader reader = new TaskImportReader(
+                body, TaskExportFormat.from(format), jsonMapper, validator,
+                maxImportErrors, maxImportRecordLength);
+
+        TaskImportService.Result result = taskImportService.importTasks(projectId, userId, reader);
+
+        // Also 200 when aborted: committed chunks stay, abortReason tells the client where it stopped
+        return ResponseEntity.ok(new TaskImportResponse(
+                result.imported(),
+                result.chunks(),
+                reader.getFailed(),
+                result.durationMillis(),
+                result.rowsPerSecond(),
+                reader.getErrors(),
+                reader.isErrorsTruncated(),
+                result.abortReason()
+        ));
     }
 
     // COMPLETE task
     @PatchMapping("/{taskId}/complete")
     public ResponseEntity<TaskResponse> completeTask(
             @PathVariable Long taskId,
-            Authentication authentication
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @CurrentUserId Long userId
     ) {
-        String email = authentication.getName();
-        User user = userRepository.findByEmail(email.toLowerCase())
-                .orElseThrow(() -> new IllegalArgumentException("User not found: " + email));
-
-        Task task = taskService.completeTask(taskId, user.getId());
-
-        return ResponseEntity.ok(new TaskResponse(
-                task.getId(),
-                task.getTitle(),
-                task.getDescription(),
-                task.getDueDate(),
-                task.getStatus()
-        ));
+        Task task = taskService.completeTask(taskId, userId, VersionTag.parseIfMatch(ifMatch));
+
+        return ResponseEntity.ok()
+                .eTag(VersionTag.format(task.getVersion()))
+                .body(TaskResponse.from(task));
+    }
+
+    // BULK status change (by ids or by filter)
+    @PatchMapping("/status")
+    public ResponseEntity<UpdateTasksStatusResponse> updateTasksStatus(
+            @Valid @RequestBody UpdateTasksStatusRequest request,
+            @CurrentUserId Long userId
+    ) {
+        int updated = request.getProjectId() != null
+                ? taskService.updateStatusByFilter(
+                        request.getProjectId(),
+                        request.getCurrentStatus(),
+                        request.getDueBefore(),
+                        request.getStatus(),
+                        userId)
+                : taskService.updateStatus(request.getTaskIds(), request.getStatus(), userId);
+
+        return ResponseEntity.ok(new UpdateTasksStatusResponse(updated));
     }
 
     // DELETE project
     @DeleteMapping("/{taskId}")
-    public ResponseEntity<Void> deleteTask(@PathVariable Long taskId, Authentication authentication) {
-        String email = authentication.getName();
-        User user = userRepository.findByEmail(email.toLowerCase())
-                .orElseThrow(() -> new IllegalArgumentException("User not found: " + email));
-
-        taskService.deleteTask(taskId, user.getId());
+    public ResponseEntity<Void> deleteTask(@PathVariable Long taskId, @CurrentUserId Long userId) {
+        taskService.deleteTask(taskId, userId);
         return ResponseEntity.noContent().build();
     }
 
@@ -119,26 +262,25 @@ public class TaskController {
     public ResponseEntity<TaskResponse> updateTask(
             @PathVariable Long taskId,
             @Valid @RequestBody com.internship.taskmanager.web.dto.task.UpdateTaskRequest request,
-            Authentication authentication
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @CurrentUserId Long userId
     ) {
-        String email = authentication.getName();
-        User user = userRepository.findByEmail(email.toLowerCase())
-                .orElseThrow(() -> new IllegalArgumentException("User not found: " + email));
-
         Task task = taskService.updateTask(
                 taskId,
                 request.getTitle(),
                 request.getDescription(),
                 request.getDueDate(),
-                user.getId()
+                userId,
+                VersionTag.parseIfMatch(ifMatch)
         );
 
-        return ResponseEntity.ok(new TaskResponse(
-                task.getId(),
-                task.getTitle(),
-                task.getDescription(),
-                task.getDueDate(),
-                task.getStatus()
-        ));
+        return ResponseEntity.ok()
+                .eTag(VersionTag.format(task.getVersion()))
+                .body(TaskResponse.from(task));
+    }
+
+    // Strong ETag of a project's task listing
+    private static String tasksETag(Long projectId, long revision) {
+        return "\"tasks-" + projectId + "-" + revision + "\"";
     }
 }
@@ -0,0 +1,57 @@
+package com.internship.taskmanager.web.dto.dashboard;
+
+import com.internship.taskmanager.domain.repository.ProjectTaskStats;
+
+import java.util.List;
+
+public class DashboardResponse {
+
+    private List<ProjectDashboardResponse> projects;
+    private int projectCount;
+    private long totalTasks;
+    private long doneTasks;
+    private long overdueTasks;
+    private long dueThisWeekTasks;
+    private int progressPercentage;
+
+    public DashboardResponse(List<ProjectDashboardResponse> projects, long totalTasks, long doneTasks,
+                             long overdueTasks, long dueThisWeekTasks) {
+        this.projects = projects;
+        this.projectCount = projects.size();
+        this.totalTasks = totalTasks;
+        this.doneTasks = doneTasks;
+        this.overdueTasks = overdueTasks;
+        this.dueThisWeekTasks = dueThisWeekTasks;
+        this.progressPercentage = percentage(doneTasks, totalTasks);
+    }
+
+    // Global totals are the sums of the per-project rows, no extra query
+    public static DashboardResponse from(List<ProjectTaskStats> stats) {
+        long total = 0;
+        long done = 0;
+        long overdue = 0;
+        long dueThisWeek = 0;
+        for (ProjectTaskStats s : stats) {
+            total += s.totalTasks();
+            done += s.doneTasks();
+            overdue += s.overdueTasks();
+            dueThisWeek += s.dueThisWeekTasks();
+        }
+        return new DashboardResponse(
+                stats.stream().map(ProjectDashboardResponse::from).toList(),
+                total, done, overdue, dueThisWeek);
+    }
+
+    static int percentage(long done, long total) {
+        return total == 0 ? 0 : (int) ((done * 100) / total);
+    }
+
+    // getters only (read-only DTO)
+    public List<ProjectDashboardResponse> getProjects() { return projects; }
+    public int getProjectCount() { return projectCount; }
+    public long getTotalTasks() { return totalTasks; }
+    public long getDoneTasks() { return doneTasks; }
+    public long getOverdueTasks() { return overdueTasks; }
+    public long getDueThisWeekTasks() { return dueThisWeekTasks; }
+    public int getProgressPercentage() { return progressPercentage; }
+}
@@ -0,0 +1,45 @@
+package com.internship.taskmanager.web.dto.dashboard;
+
+import com.internship.taskmanager.domain.repository.ProjectTaskStats;
+
+public class ProjectDashboardResponse {
+
+    private Long id;
+    private String title;
+    private long totalTasks;
+    private long doneTasks;
+    private long overdueTasks;
+    private long dueThisWeekTasks;
+    private int progressPercentage;
+
+    public ProjectDashboardResponse(Long id, String title, long totalTasks, long doneTasks,
+                                    long overdueTasks, long dueThisWeekTasks) {
+        this.id = id;
+        this.title = title;
+        this.totalTasks = totalTasks;
+        this.doneTasks = doneTasks;
+        this.overdueTasks = overdueTasks;
+        this.dueThisWeekTasks = dueThisWeekTasks;
+        this.progressPercentage = DashboardResponse.percentage(doneTasks, totalTasks);
+    }
+
+    public static ProjectDashboardResponse from(ProjectTaskStats stats) {
+        return new ProjectDashboardResponse(
+                stats.projectId(),
+                stats.title(),
+                stats.totalTasks(),
+                stats.doneTasks(),
+                stats.overdueTasks(),
+                stats.dueThisWeekTasks()
+        );
+    }
+
+    // getters only (read-only DTO)
+    public Long getId() { return id; }
+    public String getTitle() { return title; }
+    public long getTotalTasks() { return totalTasks; }
+    public long getDoneTasks() { return doneTasks; }
+    public long getOverdueTasks() { return overdueTasks; }
+    public long getDueThisWeekTasks() { return dueThisWeekTasks; }
+    public int getProgressPercentage() { return progressPercentage; }
+}
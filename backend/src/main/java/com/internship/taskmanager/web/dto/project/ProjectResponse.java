@@ -1,5 +1,6 @@
 package com.internship.taskmanager.web.dto.project;
 
+import com.internship.taskmanager.domain.repository.ProjectSummary;
 
 public class ProjectResponse {
 
@@ -9,14 +10,29 @@ public class ProjectResponse {
     private int totalTasks;
     private int completedTasks;
     private int progressPercentage;
+    private long version;
 
-    public ProjectResponse(Long id, String title, String description, int totalTasks, int completedTasks, int progressPercentage) {
+    public ProjectResponse(Long id, String title, String description, int totalTasks, int completedTasks,
+                           int progressPercentage, long version) {
         this.id = id;
         this.title = title;
         this.description = description;
         this.totalTasks = totalTasks;
         this.completedTasks = completedTasks;
         this.progressPercentage = progressPercentage;
+        this.version = version;
+    }
+
+    public static ProjectResponse from(ProjectSummary summary) {
+        return new ProjectResponse(
+                summary.getId(),
+                summary.getTitle(),
+                summary.getDescription(),
+                (int) summary.getTotalTasks(),
+                (int) summary.getCompletedTasks(),
+                summary.getProgressPercentage(),
+                summary.getVersion()
+        );
     }
 
     // getters only (read-only DTO)
@@ -26,4 +42,5 @@ public class ProjectResponse {
     public int getTotalTasks() { return totalTasks; }
     public int getCompletedTasks() { return completedTasks; }
     public int getProgressPercentage() { return progressPercentage; }
+    public long getVersion() { return version; }
 }
@@ -0,0 +1,18 @@
+package com.internship.taskmanager.web.dto.task;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class CreateTasksBatchRequest {
+
+    @NotEmpty(message = "At least one task is required")
+    @Size(max = 50000, message = "A batch cannot exceed 50000 tasks")
+    private List<@Valid CreateTaskRequest> tasks;
+
+    // getters & setters
+    public List<CreateTaskRequest> getTasks() { return tasks; }
+    public void setTasks(List<CreateTaskRequest> tasks) { this.tasks = tasks; }
+}
@@ -0,0 +1,18 @@
+package com.internship.taskmanager.web.dto.task;
+
+import java.util.List;
+
+public class CreateTasksBatchResponse {
+
+    private int created;
+    private List<Long> ids;
+
+    public CreateTasksBatchResponse(int created, List<Long> ids) {
+        this.created = created;
+        this.ids = ids;
+    }
+
+    // getters
+    public int getCreated() { return created; }
+    public List<Long> getIds() { return ids; }
+}
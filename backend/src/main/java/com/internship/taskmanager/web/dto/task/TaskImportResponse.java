@@ -0,0 +1,52 @@
+package com.internship.taskmanager.web.dto.task;
+
+import java.util.List;
+
+public class TaskImportResponse {
+
+    private long imported;
+    private int chunks;
+    private long failed;
+    private long durationMillis;
+    private long rowsPerSecond;
+    private List<LineError> errors;
+    private boolean errorsTruncated;
+    // Set when the upload stopped early; imported and errors cover everything up to that point
+    private String abortReason;
+
+    public TaskImportResponse(long imported, int chunks, long failed, long durationMillis, long rowsPerSecond,
+                              List<LineError> errors, boolean errorsTruncated, String abortReason) {
+        this.imported = imported;
+        this.chunks = chunks;
+        this.failed = failed;
+        this.durationMillis = durationMillis;
+        this.rowsPerSecond = rowsPerSecond;
+        this.errors = errors;
+        this.errorsTruncated = errorsTruncated;
+        this.abortReason = abortReason;
+    }
+
+    // getters
+    public long getImported() { return imported; }
+    public int getChunks() { return chunks; }
+    public long getFailed() { return failed; }
+    public long getDurationMillis() { return durationMillis; }
+    public long getRowsPerSecond() { return rowsPerSecond; }
+    public List<LineError> getErrors() { return errors; }
+    public boolean isErrorsTruncated() { return errorsTruncated; }
+    public String getAbortReason() { return abortReason; }
+
+    public static class LineError {
+
+        private long line;
+        private String message;
+
+        public LineError(long line, String message) {
+            this.line = line;
+            this.message = message;
+        }
+
+        public long getLine() { return line; }
+        public String getMessage() { return message; }
+    }
+}
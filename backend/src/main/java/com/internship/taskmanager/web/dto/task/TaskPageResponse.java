@@ -0,0 +1,53 @@
+package com.internship.taskmanager.web.dto.task;
+
+import com.internship.taskmanager.domain.entity.Task;
+import org.springframework.data.domain.Page;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.annotation.JsonSerialize;
+
+/**
+ * One page of tasks as {"content": [...], "page", "size", "totalElements", "totalPages"}.
+ * Tasks are written straight from the entities through {@link TaskResponse#write}, the same
+ * writer the DTO serializes with, so no per-task DTO or intermediate list is built.
+ */
+@JsonSerialize(using = TaskPageResponse.Serializer.class)
+public class TaskPageResponse {
+
+    private final Page<Task> page;
+
+    public TaskPageResponse(Page<Task> page) {
+        this.page = page;
+    }
+
+    static final class Serializer extends ValueSerializer<TaskPageResponse> {
+
+        private static final SerializableString CONTENT = new SerializedString("content");
+
+        @Override
+        public void serialize(TaskPageResponse value, JsonGenerator gen, SerializationContext ctxt) {
+            Page<Task> page = value.page;
+
+            gen.writeStartObject();
+            gen.writeName(CONTENT);
+            gen.writeStartArray();
+            for (Task task : page.getContent()) {
+                writeTask(task, gen);
+            }
+            gen.writeEndArray();
+            gen.writeNumberProperty("page", page.getNumber());
+            gen.writeNumberProperty("size", page.getSize());
+            gen.writeNumberProperty("totalElements", page.getTotalElements());
+            gen.writeNumberProperty("totalPages", page.getTotalPages());
+            gen.writeEndObject();
+        }
+
+        private static void writeTask(Task task, JsonGenerator gen) {
+            TaskResponse.write(gen, task.getId(), task.getTitle(), task.getDescription(),
+                    task.getDueDate(), task.getStatus(), task.getVersion());
+        }
+    }
+}
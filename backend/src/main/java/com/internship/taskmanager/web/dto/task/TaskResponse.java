@@ -1,10 +1,22 @@
 package com.internship.taskmanager.web.dto.task;
 
 
+import com.internship.taskmanager.domain.entity.Task;
 import com.internship.taskmanager.domain.entity.TaskStatus;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.annotation.JsonSerialize;
 
 import java.time.LocalDate;
 
+/**
+ * A task as returned by the API. {@link #write} is the one place its JSON fields are listed:
+ * {@link TaskPageResponse} streams entities through it without building this DTO.
+ */
+@JsonSerialize(using = TaskResponse.Serializer.class)
 public class TaskResponse {
 
     private Long id;
@@ -12,14 +24,27 @@ public class TaskResponse {
     private String description;
     private LocalDate dueDate;
     private TaskStatus status;
+    private long version;
 
     public TaskResponse(Long id, String title, String description,
-                        LocalDate dueDate, TaskStatus status) {
+                        LocalDate dueDate, TaskStatus status, long version) {
         this.id = id;
         this.title = title;
         this.description = description;
         this.dueDate = dueDate;
         this.status = status;
+        this.version = version;
+    }
+
+    public static TaskResponse from(Task task) {
+        return new TaskResponse(
+                task.getId(),
+                task.getTitle(),
+                task.getDescription(),
+                task.getDueDate(),
+                task.getStatus(),
+                task.getVersion()
+        );
     }
 
     // getters
@@ -28,6 +53,51 @@ public class TaskResponse {
     public String getDescription() { return description; }
     public  LocalDate getDueDate() { return dueDate; }
     public TaskStatus getStatus() { return status; }
+    public long getVersion() { return version; }
 
-}
+    // Pre-encoded property names, reused for every task written
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString TITLE = new SerializedString("title");
+    private static final SerializableString DESCRIPTION = new SerializedString("description");
+    private static final SerializableString DUE_DATE = new SerializedString("dueDate");
+    private static final SerializableString STATUS = new SerializedString("status");
+    private static final SerializableString VERSION = new SerializedString("version");
+
+    static void write(JsonGenerator gen, Long id, String title, String description,
+                      LocalDate dueDate, TaskStatus status, long version) {
+        gen.writeStartObject();
+        gen.writeName(ID);
+        if (id != null) {
+            gen.writeNumber(id);
+        } else {
+            gen.writeNull();
+        }
+        gen.writeName(TITLE);
+        gen.writeString(title);
+        gen.writeName(DESCRIPTION);
+        gen.writeString(description);
+        gen.writeName(DUE_DATE);
+        if (dueDate != null) {
+            gen.writeString(dueDate.toString());
+        } else {
+            gen.writeNull();
+        }
+        gen.writeName(STATUS);
+        if (status != null) {
+            gen.writeString(status.name());
+        } else {
+            gen.writeNull();
+        }
+        gen.writeName(VERSION);
+        gen.writeNumber(version);
+        gen.writeEndObject();
+    }
+
+    static final class Serializer extends ValueSerializer<TaskResponse> {
 
+        @Override
+        public void serialize(TaskResponse value, JsonGenerator gen, SerializationContext ctxt) {
+            write(gen, value.id, value.title, value.description, value.dueDate, value.status, value.version);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.internship.taskmanager.web.dto.task;
+
+import java.util.List;
+
+public class TaskSearchResponse {
+
+    private List<TaskResponse> items;
+    private int page;
+    private int size;
+    private boolean hasNext;
+
+    public TaskSearchResponse(List<TaskResponse> items, int page, int size, boolean hasNext) {
+        this.items = items;
+        this.page = page;
+        this.size = size;
+        this.hasNext = hasNext;
+    }
+
+    // getters
+    public List<TaskResponse> getItems() { return items; }
+    public int getPage() { return page; }
+    public int getSize() { return size; }
+    public boolean isHasNext() { return hasNext; }
+}
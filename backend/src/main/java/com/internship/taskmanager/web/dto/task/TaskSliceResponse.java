@@ -0,0 +1,21 @@
+package com.internship.taskmanager.web.dto.task;
+
+import java.util.List;
+
+public class TaskSliceResponse {
+
+    private List<TaskResponse> items;
+    private String nextCursor;
+    private boolean hasNext;
+
+    public TaskSliceResponse(List<TaskResponse> items, String nextCursor, boolean hasNext) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+
+    // getters
+    public List<TaskResponse> getItems() { return items; }
+    public String getNextCursor() { return nextCursor; }
+    public boolean isHasNext() { return hasNext; }
+}
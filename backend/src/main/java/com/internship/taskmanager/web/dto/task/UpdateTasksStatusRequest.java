@@ -0,0 +1,49 @@
+package com.internship.taskmanager.web.dto.task;
+
+import com.internship.taskmanager.domain.entity.TaskStatus;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Either explicit task ids, or a project filter (optionally narrowed by current status and due date).
+ */
+public class UpdateTasksStatusRequest {
+
+    @NotNull(message = "Target status is required")
+    private TaskStatus status;
+
+    @Size(max = 10000, message = "Cannot update more than 10000 tasks by id at once")
+    private List<Long> taskIds;
+
+    private Long projectId;
+
+    private TaskStatus currentStatus;
+
+    private LocalDate dueBefore;
+
+    @AssertTrue(message = "Provide either taskIds or projectId, not both")
+    public boolean isSelectionValid() {
+        boolean byIds = taskIds != null && !taskIds.isEmpty();
+        return byIds != (projectId != null);
+    }
+
+    // getters & setters
+    public TaskStatus getStatus() { return status; }
+    public void setStatus(TaskStatus status) { this.status = status; }
+
+    public List<Long> getTaskIds() { return taskIds; }
+    public void setTaskIds(List<Long> taskIds) { this.taskIds = taskIds; }
+
+    public Long getProjectId() { return projectId; }
+    public void setProjectId(Long projectId) { this.projectId = projectId; }
+
+    public TaskStatus getCurrentStatus() { return currentStatus; }
+    public void setCurrentStatus(TaskStatus currentStatus) { this.currentStatus = currentStatus; }
+
+    public LocalDate getDueBefore() { return dueBefore; }
+    public void setDueBefore(LocalDate dueBefore) { this.dueBefore = dueBefore; }
+}
@@ -0,0 +1,13 @@
+package com.internship.taskmanager.web.dto.task;
+
+public class UpdateTasksStatusResponse {
+
+    private int updated;
+
+    public UpdateTasksStatusResponse(int updated) {
+        this.updated = updated;
+    }
+
+    // getters
+    public int getUpdated() { return updated; }
+}
@@ -0,0 +1,139 @@
+package com.internship.taskmanager.web.export;
+
+import com.internship.taskmanager.domain.entity.Task;
+import com.internship.taskmanager.web.dto.task.TaskResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Writes exported tasks straight to the servlet output stream, one row at a time.
+ * Headers are only sent with the first row (or on finish), so a failed ownership
+ * check can still be turned into a regular error response.
+ */
+public abstract class TaskExportWriter implements Consumer<Task> {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final HttpServletResponse response;
+    private final TaskExportFormat format;
+    private final String fileName;
+    private Writer out;
+
+    protected TaskExportWriter(HttpServletResponse response, TaskExportFormat format, String fileName) {
+        this.response = response;
+        this.format = format;
+        this.fileName = fileName;
+    }
+
+    public static TaskExportWriter create(
+            TaskExportFormat format,
+            HttpServletResponse response,
+            JsonMapper jsonMapper,
+            Long projectId
+    ) {
+        String fileName = "project-" + projectId + "-tasks." + format.getExtension();
+        return switch (format) {
+            case NDJSON -> new NdjsonWriter(response, fileName, jsonMapper);
+            case CSV -> new CsvWriter(response, fileName);
+        };
+    }
+
+    @Override
+    public void accept(Task task) {
+        try {
+            writeRow(open(), task);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void finish() throws IOException {
+        open().flush();
+    }
+
+    protected void writeHeader(Writer out) throws IOException {
+    }
+
+    protected abstract void writeRow(Writer out, Task task) throws IOException;
+
+    private Writer open() throws IOException {
+        if (out == null) {
+            response.setContentType(format.getContentType());
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            response.setHeader("Content-Disposition", "attachment; filename=\"" + fileName + "\"");
+            out = new BufferedWriter(
+                    new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8), BUFFER_SIZE);
+            writeHeader(out);
+        }
+        return out;
+    }
+
+    // One JSON object per line
+    private static final class NdjsonWriter extends TaskExportWriter {
+
+        private final JsonMapper jsonMapper;
+
+        NdjsonWriter(HttpServletResponse response, String fileName, JsonMapper jsonMapper) {
+            super(response, TaskExportFormat.NDJSON, fileName);
+            this.jsonMapper = jsonMapper;
+        }
+
+        @Override
+        protected void writeRow(Writer out, Task task) throws IOException {
+            out.write(jsonMapper.writeValueAsString(TaskResponse.from(task)));
+            out.write('\n');
+        }
+    }
+
+    // RFC 4180 CSV with a header row
+    private static final class CsvWriter extends TaskExportWriter {
+
+        CsvWriter(HttpServletResponse response, String fileName) {
+            super(response, TaskExportFormat.CSV, fileName);
+        }
+
+        @Override
+        protected void writeHeader(Writer out) throws IOException {
+            out.write("id,title,description,dueDate,status\r\n");
+        }
+
+        @Override
+        protected void writeRow(Writer out, Task task) throws IOException {
+            out.write(String.valueOf(task.getId()));
+            out.write(',');
+            writeField(out, task.getTitle());
+            out.write(',');
+            writeField(out, task.getDescription());
+            out.write(',');
+            if (task.getDueDate() != null) {
+                out.write(task.getDueDate().toString());
+            }
+            out.write(',');
+            out.write(task.getStatus().name());
+            out.write("\r\n");
+        }
+
+        private static void writeField(Writer out, String value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+            if (!quote) {
+                out.write(value);
+                return;
+            }
+            out.write('"');
+            out.write(value.replace("\"", "\"\""));
+            out.write('"');
+        }
+    }
+}
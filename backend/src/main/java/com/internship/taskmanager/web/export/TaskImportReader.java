@@ -0,0 +1,291 @@
+package com.internship.taskmanager.web.export;
+
+import com.internship.taskmanager.domain.entity.Task;
+import com.internship.taskmanager.web.dto.task.CreateTaskRequest;
+import com.internship.taskmanager.web.dto.task.TaskImportResponse.LineError;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Parses an NDJSON or CSV upload one record at a time and yields the valid rows as tasks.
+ * Invalid rows are skipped and reported by line number; only the first {@code maxErrors}
+ * messages are kept so a bad upload cannot grow the report without bound.
+ * A record longer than {@code maxRecordLength} characters (an unterminated CSV quote, a huge
+ * NDJSON line) fails the upload with {@link IllegalArgumentException} instead of being buffered;
+ * chunks committed before it stay committed.
+ * CSV uploads need a header row; {@code title}, {@code description} and {@code dueDate}
+ * are read and any other column (e.g. {@code id}, {@code status} from an export) is ignored.
+ */
+public class TaskImportReader implements Iterator<Task> {
+
+    private final BufferedReader reader;
+    private final TaskExportFormat format;
+    private final JsonMapper jsonMapper;
+    private final Validator validator;
+    private final int maxErrors;
+    private final int maxRecordLength;
+
+    private final char[] buffer = new char[8192];
+    private int position;
+    private int limit;
+
+    private final List<LineError> errors = new ArrayList<>();
+    private long failed;
+    private long lineNumber;
+    private long recordLine;
+    private int titleColumn = -1;
+    private int descriptionColumn = -1;
+    private int dueDateColumn = -1;
+    private boolean headerRead;
+    private Task next;
+    private boolean exhausted;
+
+    public TaskImportReader(
+            BufferedReader reader,
+            TaskExportFormat format,
+            JsonMapper jsonMapper,
+            Validator validator,
+            int maxErrors,
+            int maxRecordLength
+    ) {
+        this.reader = reader;
+        this.format = format;
+        this.jsonMapper = jsonMapper;
+        this.validator = validator;
+        this.maxErrors = maxErrors;
+        this.maxRecordLength = maxRecordLength;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (next == null && !exhausted) {
+            next = readNext();
+        }
+        return next != null;
+    }
+
+    @Override
+    public Task next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Task task = next;
+        next = null;
+        return task;
+    }
+
+    public List<LineError> getErrors() {
+        return errors;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public boolean isErrorsTruncated() {
+        return failed > errors.size();
+    }
+
+    // Returns null when the record was skipped or the input is exhausted
+    private Task readNext() {
+        try {
+            recordLine = lineNumber + 1;
+            String record = format == TaskExportFormat.CSV ? readCsvRecord() : readLine(maxRecordLength);
+            if (record == null) {
+                exhausted = true;
+                return null;
+            }
+            if (record.isBlank()) {
+                return null;
+            }
+            if (format == TaskExportFormat.CSV && !headerRead) {
+                // A missing title column fails the whole upload rather than every line
+                readHeader(splitCsv(record));
+                return null;
+            }
+
+            CreateTaskRequest request;
+            try {
+                request = format == TaskExportFormat.CSV ? parseCsv(record) : parseJson(record);
+            } catch (IllegalArgumentException | JacksonException e) {
+                reject(recordLine, e instanceof JacksonException ? "Malformed JSON" : e.getMessage());
+                return null;
+            }
+            Set<ConstraintViolation<CreateTaskRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                reject(recordLine, violations.stream()
+                        .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining(", ")));
+                return null;
+            }
+            return new Task(request.getTitle(), request.getDescription(), request.getDueDate());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void reject(long line, String message) {
+        failed++;
+        if (errors.size() < maxErrors) {
+            errors.add(new LineError(line, message));
+        }
+    }
+
+    // Like BufferedReader.readLine, but stops buffering once the line exceeds maxLength
+    private String readLine(int maxLength) throws IOException {
+        StringBuilder line = null;
+        while (true) {
+            if (position == limit) {
+                limit = reader.read(buffer, 0, buffer.length);
+                position = 0;
+                if (limit <= 0) {
+                    limit = 0;
+                    return line == null ? null : endLine(line);
+                }
+            }
+            if (line == null) {
+                line = new StringBuilder();
+            }
+            int start = position;
+            while (position < limit && buffer[position] != '\n') {
+                position++;
+            }
+            line.append(buffer, start, position - start);
+            if (line.length() > maxLength) {
+                throw new IllegalArgumentException("Record at line " + recordLine
+                        + " exceeds the maximum record length of " + maxRecordLength + " characters");
+            }
+            if (position < limit) {
+                position++; // consume '\n'
+                return endLine(line);
+            }
+        }
+    }
+
+    private String endLine(StringBuilder line) {
+        lineNumber++;
+        int length = line.length();
+        if (length > 0 && line.charAt(length - 1) == '\r') {
+            line.setLength(length - 1);
+        }
+        return line.toString();
+    }
+
+    private CreateTaskRequest parseJson(String line) {
+        return jsonMapper.readValue(line, CreateTaskRequest.class);
+    }
+
+    // ===== CSV (RFC 4180: quoted fields may contain commas, quotes and line breaks) =====
+
+    private String readCsvRecord() throws IOException {
+        String line = readLine(maxRecordLength);
+        if (line == null) {
+            return null;
+        }
+        StringBuilder record = new StringBuilder(line);
+        // Quote parity is carried across lines so each character is scanned once
+        boolean open = hasOpenQuote(line, false);
+        while (open) {
+            String continuation = readLine(maxRecordLength - record.length() - 1);
+            if (continuation == null) {
+                break;
+            }
+            record.append('\n').append(continuation);
+            open = hasOpenQuote(continuation, open);
+        }
+        return record.toString();
+    }
+
+    private static boolean hasOpenQuote(String line, boolean open) {
+        for (int i = 0; i < line.length(); i++) {
+            if (line.charAt(i) == '"') {
+                open = !open;
+            }
+        }
+        return open;
+    }
+
+    private CreateTaskRequest parseCsv(String record) {
+        List<String> fields = splitCsv(record);
+        CreateTaskRequest request = new CreateTaskRequest();
+        request.setTitle(field(fields, titleColumn));
+        request.setDescription(field(fields, descriptionColumn));
+        String dueDate = field(fields, dueDateColumn);
+        if (dueDate != null) {
+            try {
+                request.setDueDate(LocalDate.parse(dueDate.trim()));
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("dueDate: invalid date '" + dueDate + "' (expected yyyy-MM-dd)");
+            }
+        }
+        return request;
+    }
+
+    private void readHeader(List<String> header) {
+        for (int i = 0; i < header.size(); i++) {
+            switch (header.get(i).trim().toLowerCase(Locale.ROOT)) {
+                case "title" -> titleColumn = i;
+                case "description" -> descriptionColumn = i;
+                case "duedate", "due_date" -> dueDateColumn = i;
+                default -> { }
+            }
+        }
+        if (titleColumn < 0) {
+            throw new IllegalArgumentException("CSV header must contain a 'title' column");
+        }
+        headerRead = true;
+    }
+
+    private static String field(List<String> fields, int column) {
+        if (column < 0 || column >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(column);
+        return value.isEmpty() ? null : value;
+    }
+
+    private static List<String> splitCsv(String record) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < record.length(); i++) {
+            char c = record.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < record.length() && record.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else if (c != '\r') {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+}
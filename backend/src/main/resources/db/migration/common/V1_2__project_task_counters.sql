@@ -0,0 +1,12 @@
+-- Denormalized task counters read by the project summary queries (Project.totalTaskCount /
+-- completedTaskCount). Kept out of V1 so databases baselined at V1 still receive them.
+
+ALTER TABLE projects ADD COLUMN total_task_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE projects ADD COLUMN completed_task_count INTEGER NOT NULL DEFAULT 0;
+
+-- Backfill from the existing tasks so summaries are right from the first request instead of
+-- waiting for TaskCounterReconciliationJob.
+UPDATE projects
+SET total_task_count     = (SELECT COUNT(*) FROM tasks t WHERE t.project_id = projects.id),
+    completed_task_count = (SELECT COUNT(*) FROM tasks t
+                            WHERE t.project_id = projects.id AND t.status = 'DONE');
@@ -0,0 +1,13 @@
+-- Secondary indexes matched to the query shapes of ProjectRepository and TaskRepository.
+
+-- findByUserId / findSummariesByUserId: WHERE user_id = ? ORDER BY id
+CREATE INDEX IF NOT EXISTS idx_projects_user_id ON projects (user_id, id);
+
+-- findByProjectId, keyset slices without status: WHERE project_id = ? AND id > ? ORDER BY id
+CREATE INDEX IF NOT EXISTS idx_tasks_project_id ON tasks (project_id, id);
+
+-- Status filter, counter reconciliation: WHERE project_id = ? AND status = ? [AND id > ? ORDER BY id]
+CREATE INDEX IF NOT EXISTS idx_tasks_project_status ON tasks (project_id, status, id);
+
+-- Due-date driven reads (overdue / due soon): WHERE project_id = ? AND due_date < ?
+CREATE INDEX IF NOT EXISTS idx_tasks_project_due_date ON tasks (project_id, due_date);
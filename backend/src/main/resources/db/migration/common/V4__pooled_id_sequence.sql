@@ -0,0 +1,5 @@
+-- Shared id sequence for all entities (BaseEntity). Hibernate's pooled optimizer
+-- reserves INCREMENT BY ids per call, so inserts no longer need a round trip each
+-- and can be sent as JDBC batches. Identity columns stay in place for explicit ids.
+
+CREATE SEQUENCE IF NOT EXISTS entity_id_seq START WITH 1 INCREMENT BY 50;
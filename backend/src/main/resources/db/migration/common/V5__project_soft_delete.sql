@@ -0,0 +1,6 @@
+-- Soft delete: projects are hidden immediately and purged later in bounded chunks.
+
+ALTER TABLE projects ADD COLUMN deleted_at TIMESTAMP(6);
+
+-- Lets the purger find pending deletions without scanning live projects
+CREATE INDEX IF NOT EXISTS idx_projects_deleted_at ON projects (deleted_at);
@@ -0,0 +1,4 @@
+-- Change version per project, bumped by every write to the project or its tasks.
+-- Read endpoints derive their ETags from it, so a revalidation costs one indexed lookup.
+
+ALTER TABLE projects ADD COLUMN revision BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,6 @@
+-- Optimistic locking (BaseEntity.version): every JPA update checks and increments it,
+-- so concurrent read-modify-write cycles fail instead of overwriting each other.
+
+ALTER TABLE users ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE projects ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE tasks ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,3 @@
+-- Dashboard aggregates (ProjectRepository.findTaskStatsByUserId): per project, counts by status
+-- and due date. Covering both columns lets the grouped query read the index only.
+CREATE INDEX IF NOT EXISTS idx_tasks_project_status_due_date ON tasks (project_id, status, due_date);
@@ -0,0 +1,5 @@
+-- Restrict tasks.status to the TaskStatus values.
+-- Replaces the unnamed check generated by ddl-auto on databases created before migrations.
+
+ALTER TABLE tasks DROP CONSTRAINT IF EXISTS tasks_status_check;
+ALTER TABLE tasks ADD CONSTRAINT ck_tasks_status CHECK (status IN ('TODO', 'DONE'));
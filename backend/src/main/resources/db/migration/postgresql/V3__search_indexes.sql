@@ -0,0 +1,9 @@
+-- PostgreSQL-only indexes behind task search (TaskSearchRepositoryImpl).
+
+-- Ranked full-text search; the expression must match TaskSearchRepositoryImpl.SEARCH_VECTOR
+CREATE INDEX IF NOT EXISTS idx_tasks_search ON tasks USING gin
+    (to_tsvector('simple', coalesce(title, '') || ' ' || coalesce(description, '')));
+
+-- Serves the LOWER(title) LIKE '%...%' filter of GET /api/tasks
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_tasks_title_trgm ON tasks USING gin (lower(title) gin_trgm_ops);
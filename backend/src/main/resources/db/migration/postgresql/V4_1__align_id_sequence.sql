@@ -0,0 +1,7 @@
+-- Move the shared sequence past every existing id. With the pooled optimizer a fetched
+-- value V hands out ids V-49..V, so the next value must be at least max(id) + 50.
+
+SELECT setval('entity_id_seq', GREATEST(
+        (SELECT COALESCE(MAX(id), 0) FROM users),
+        (SELECT COALESCE(MAX(id), 0) FROM projects),
+        (SELECT COALESCE(MAX(id), 0) FROM tasks)) + 50, false);
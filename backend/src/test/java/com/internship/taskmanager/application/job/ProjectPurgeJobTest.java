@@ -0,0 +1,139 @@
+package com.internship.taskmanager.application.job;
+
+import com.internship.taskmanager.application.readmodel.ProjectReadModel;
+import com.internship.taskmanager.application.service.OwnershipGuard;
+import com.internship.taskmanager.application.service.ProjectService;
+import com.internship.taskmanager.application.service.TaskService;
+import com.internship.taskmanager.common.cache.InMemoryCacheInvalidationBus;
+import com.internship.taskmanager.domain.entity.Project;
+import com.internship.taskmanager.domain.entity.Task;
+import com.internship.taskmanager.domain.entity.User;
+import com.internship.taskmanager.domain.repository.ProjectRepository;
+import com.internship.taskmanager.domain.repository.TaskRepository;
+import com.internship.taskmanager.domain.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ProjectService.class, TaskService.class, OwnershipGuard.class, ProjectPurgeJob.class, SimpleMeterRegistry.class,
+        ProjectReadModel.class, InMemoryCacheInvalidationBus.class})
+@TestPropertySource(properties = {"taskmanager.purge.chunk-size=7", "taskmanager.purge.min-age=PT0S"})
+class ProjectPurgeJobTest {
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ProjectPurgeJob purgeJob;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void testDeletedProjectIsHiddenThenPurgedInChunks() {
+        User user = userRepository.save(new User("purge@example.com", "pass"));
+        Project doomed = projectService.createProject("Doomed", "Desc", user.getId());
+        Project kept = projectService.createProject("Kept", "Desc", user.getId());
+
+        taskService.createTasks(IntStream.range(0, 30)
+                .mapToObj(i -> new Task("Task " + i, "Desc", null))
+                .toList(), doomed.getId(), user.getId());
+        taskService.createTasks(List.of(new Task("Survivor", "Desc", null)), kept.getId(), user.getId());
+
+        projectService.deleteProject(doomed.getId(), user.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        // Hidden from every read path right away
+        assertThat(projectRepository.findById(doomed.getId())).isEmpty();
+        // (the read model loads users from this query)
+        assertThat(projectRepository.findSummariesByUserId(user.getId()))
+                .extracting(s -> s.getTitle()).containsExactly("Kept");
+
+        assertThat(purgeJob.purgeDeletedProjects()).isEqualTo(1);
+        entityManager.clear();
+
+        assertThat(taskRepository.findByProjectId(doomed.getId())).isEmpty();
+        assertThat(taskRepository.findByProjectId(kept.getId())).hasSize(1);
+        assertThat(purgeJob.purgeDeletedProjects()).isZero();
+    }
+
+    @Test
+    void testFailingProjectDoesNotBlockTheOthers() {
+        User user = userRepository.save(new User("purge-fail@example.com", "pass"));
+        Project broken = projectService.createProject("Broken", "Desc", user.getId());
+        Project doomed = projectService.createProject("Doomed", "Desc", user.getId());
+        taskService.createTasks(List.of(new Task("Task", "Desc", null)), doomed.getId(), user.getId());
+
+        // Deleted first, so every run finds it before the other one
+        projectService.deleteProject(broken.getId(), user.getId());
+        projectService.deleteProject(doomed.getId(), user.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        // Stands in for e.g. a task committed after the soft delete (FK violation on the project row)
+        JdbcTemplate failingJdbc = new JdbcTemplate(dataSource) {
+            @Override
+            public int update(String sql, Object... args) {
+                if (sql.startsWith("DELETE FROM projects") && broken.getId().equals(args[0])) {
+                    throw new DataIntegrityViolationException("tasks still reference project " + args[0]);
+                }
+                return super.update(sql, args);
+            }
+        };
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ProjectPurgeJob job = new ProjectPurgeJob(failingJdbc, event -> { }, meterRegistry, 7, 10, Duration.ZERO);
+
+        assertThat(job.purgeDeletedProjects()).isEqualTo(1);
+        assertThat(job.purgeDeletedProjects()).isZero();
+
+        assertThat(taskRepository.findByProjectId(doomed.getId())).isEmpty();
+        assertThat(meterRegistry.counter("projects.purge.failures").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("projects.purge.projects").count()).isEqualTo(1);
+    }
+
+    @Test
+    void testRecentDeletionsWaitForMinimumAge() {
+        User user = userRepository.save(new User("purge-young@example.com", "pass"));
+        Project project = projectService.createProject("Young", "Desc", user.getId());
+        projectService.deleteProject(project.getId(), user.getId());
+        entityManager.flush();
+
+        ProjectPurgeJob job = new ProjectPurgeJob(
+                new JdbcTemplate(dataSource), event -> { }, new SimpleMeterRegistry(), 7, 10, Duration.ofHours(1));
+
+        assertThat(job.purgeDeletedProjects()).isZero();
+        assertThat(purgeJob.purgeDeletedProjects()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,206 @@
+package com.internship.taskmanager.application.readmodel;
+
+import com.internship.taskmanager.application.service.ProjectService;
+import com.internship.taskmanager.application.service.TaskService;
+import com.internship.taskmanager.common.cache.InMemoryCacheInvalidationBus;
+import com.internship.taskmanager.domain.entity.Task;
+import com.internship.taskmanager.domain.entity.User;
+import com.internship.taskmanager.domain.repository.ProjectRepository;
+import com.internship.taskmanager.domain.repository.ProjectSummary;
+import com.internship.taskmanager.domain.repository.UserRepository;
+import com.internship.taskmanager.security.JwtUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "management.server.port=0"
+)
+@ActiveProfiles("test")
+class ProjectReadModelIntegrationTest {
+
+    @Autowired
+    private ProjectReadModel readModel;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @LocalServerPort
+    private int apiPort;
+
+    @LocalManagementPort
+    private int managementPort;
+
+    private Long userId;
+    private String email;
+
+    @BeforeEach
+    void setUp() {
+        email = UUID.randomUUID() + "@example.com";
+        userId = userRepository.save(new User(email, "pass")).getId();
+    }
+
+    @Test
+    void testListingFollowsCommittedWritesAndMatchesTheDatabase() {
+        assertThat(readModel.getListing(userId).projects()).isEmpty();
+
+        Long first = projectService.createProject("First", "Desc", userId).getId();
+        Long second = projectService.createProject("Second", "Desc", userId).getId();
+        List<Long> taskIds = taskService.createTasks(List.of(
+                new Task("Task 1", "Desc", null),
+                new Task("Task 2", "Desc", null)
+        ), first, userId);
+        taskService.completeTask(taskIds.get(0), userId, null);
+        projectService.updateProject(second, "Renamed", "Desc", userId, null);
+        projectService.deleteProject(second, userId);
+
+        ProjectListing listing = readModel.getListing(userId);
+        assertThat(listing.projects()).singleElement().satisfies(project -> {
+            assertThat(project.getId()).isEqualTo(first);
+            assertThat(project.getTotalTasks()).isEqualTo(2);
+            assertThat(project.getCompletedTasks()).isEqualTo(1);
+        });
+        assertThat(listing.version()).isEqualTo(projectRepository.findListVersionByUserId(userId));
+        assertThat(meterRegistry.get("readmodel.projection.lag").tag("event", "changed").timer().count())
+                .isPositive();
+    }
+
+    @Test
+    void testRolledBackWriteNeverReachesTheReadModel() {
+        Long projectId = projectService.createProject("Project", "Desc", userId).getId();
+        readModel.getListing(userId);
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        assertThatThrownBy(() -> transaction.executeWithoutResult(status -> {
+            taskService.createTask("Doomed", "Desc", null, projectId, userId);
+            throw new IllegalStateException("rollback");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(readModel.getListing(userId).projects())
+                .extracting(ProjectSummary::getTotalTasks)
+                .containsExactly(0L);
+    }
+
+    @Test
+    void testOlderProjectionNeverReplacesNewerOneAndDeletesAreFinal() {
+        Long projectId = projectService.createProject("Project", "Desc", userId).getId();
+        ProjectSummary initial = readModel.getListing(userId).projects().get(0);
+
+        taskService.createTask("Task", "Desc", null, projectId, userId);
+        readModel.apply(userId, List.of(ProjectReadModel.Entry.of(initial)));
+        assertThat(readModel.getListing(userId).projects().get(0).getTotalTasks()).isEqualTo(1);
+
+        readModel.apply(userId, List.of(ProjectReadModel.Entry.deleted(projectId)));
+        readModel.apply(userId, List.of(ProjectReadModel.Entry.of(initial)));
+        assertThat(readModel.getListing(userId).projects()).isEmpty();
+    }
+
+    @Test
+    void testTombstonesAreDroppedOnTheNextWriteOnceOlderThanTheTtl() {
+        Long kept = projectService.createProject("Kept", "Desc", userId).getId();
+        Long deleted = projectService.createProject("Deleted", "Desc", userId).getId();
+        ProjectReadModel.Entry keptEntry = ProjectReadModel.Entry.of(projectRepository.findSummaryById(kept).orElseThrow());
+        // Own bus: on a shared one each model's writes would evict the user from the other
+        ProjectReadModel expiring = new ProjectReadModel(projectRepository, transactionManager,
+                new InMemoryCacheInvalidationBus(), new SimpleMeterRegistry(), 100, Duration.ZERO);
+        expiring.getListing(userId);
+        readModel.getListing(userId);
+
+        for (ProjectReadModel model : List.of(expiring, readModel)) {
+            model.apply(userId, List.of(ProjectReadModel.Entry.deleted(deleted)));
+            assertThat(model.tombstones(userId)).isEqualTo(1);
+            model.apply(userId, List.of(keptEntry));
+            assertThat(model.getListing(userId).projects()).extracting(ProjectSummary::getId).containsExactly(kept);
+        }
+
+        assertThat(expiring.tombstones(userId)).isZero();
+        // Still within the default TTL: kept against projections in flight
+        assertThat(readModel.tombstones(userId)).isEqualTo(1);
+    }
+
+    @Test
+    void testRefreshReloadsResidentUsersFromTheNormalizedTables() {
+        Long projectId = projectService.createProject("Project", "Desc", userId).getId();
+        readModel.getListing(userId);
+
+        // Written behind the read model's back: only a refresh picks it up
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                projectRepository.adjustTaskCounters(projectId, 3, 1));
+        assertThat(readModel.getListing(userId).projects().get(0).getTotalTasks()).isZero();
+
+        ProjectReadModel.RefreshReport report = readModel.refreshResidentUsers().orElseThrow();
+
+        assertThat(report.users()).isPositive();
+        assertThat(readModel.getListing(userId).projects().get(0).getTotalTasks()).isEqualTo(3);
+        assertThat(readModel.getListing(userId).version()).isEqualTo(projectRepository.findListVersionByUserId(userId));
+    }
+
+    @Test
+    void testRefreshWhileAnotherIsRunningIsAConflict() {
+        ProjectReadModel busy = mock(ProjectReadModel.class);
+        when(busy.refreshResidentUsers()).thenReturn(Optional.empty());
+
+        assertThat(new ProjectReadModelEndpoint(busy, meterRegistry).refresh().getStatus()).isEqualTo(409);
+    }
+
+    @Test
+    void testOperationsEndpointIsNotServedOnTheApiPort() {
+        String bearer = "Bearer " + jwtUtil.generateToken(email, userId);
+
+        // A regular user's token cannot reach the refresh through the public port (no such route there)
+        assertThat(status(HttpMethod.POST, apiPort, bearer)).isEqualTo(404);
+        assertThat(status(HttpMethod.POST, managementPort, null)).isEqualTo(401);
+        assertThat(status(HttpMethod.GET, managementPort, bearer)).isEqualTo(200);
+    }
+
+    private int status(HttpMethod method, int port, String authorization) {
+        return RestClient.create().method(method)
+                .uri("http://127.0.0.1:" + port + "/actuator/readmodel")
+                .headers(headers -> {
+                    if (authorization != null) {
+                        headers.set(HttpHeaders.AUTHORIZATION, authorization);
+                    }
+                })
+                .exchange((request, response) -> response.getStatusCode().value());
+    }
+}
@@ -1,12 +1,15 @@
 package com.internship.taskmanager.application.service;
 
+import com.internship.taskmanager.application.readmodel.ProjectReadModel;
 import com.internship.taskmanager.domain.entity.Project;
 import com.internship.taskmanager.domain.entity.Task;
 import com.internship.taskmanager.domain.entity.User;
 import com.internship.taskmanager.domain.repository.ProjectRepository;
+import com.internship.taskmanager.domain.repository.TaskRepository;
 import com.internship.taskmanager.domain.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 
@@ -23,7 +26,9 @@ class ProjectServiceTest {
     void setUp() {
         projectRepository = mock(ProjectRepository.class);
         userRepository = mock(UserRepository.class);
-        projectService = new ProjectService(projectRepository, userRepository);
+        projectService = new ProjectService(projectRepository, userRepository,
+                new OwnershipGuard(mock(TaskRepository.class), projectRepository),
+                mock(ProjectReadModel.class), mock(ApplicationEventPublisher.class));
     }
 
     @Test
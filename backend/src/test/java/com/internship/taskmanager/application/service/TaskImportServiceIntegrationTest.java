@@ -0,0 +1,247 @@
+package com.internship.taskmanager.application.service;
+
+import com.internship.taskmanager.domain.entity.Project;
+import com.internship.taskmanager.domain.entity.Task;
+import com.internship.taskmanager.domain.entity.User;
+import com.internship.taskmanager.domain.repository.ProjectRepository;
+import com.internship.taskmanager.domain.repository.TaskRepository;
+import com.internship.taskmanager.domain.repository.UserRepository;
+import com.internship.taskmanager.web.export.TaskExportFormat;
+import com.internship.taskmanager.web.export.TaskImportReader;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({TaskImportService.class, OwnershipGuard.class})
+@TestPropertySource(properties = "taskmanager.import.chunk-size=3")
+class TaskImportServiceIntegrationTest {
+
+    private static final Validator VALIDATOR = Validation.buildDefaultValidatorFactory().getValidator();
+    private static final JsonMapper JSON = JsonMapper.builder().build();
+
+    @Autowired
+    private TaskImportService importService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User owner;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(new User("importer@example.com", "pass"));
+        project = new Project("Imports", "Desc");
+        project.assignToUser(owner);
+        projectRepository.save(project);
+    }
+
+    @Test
+    void testNdjsonImportWritesValidLinesInChunksAndReportsBadOnes() {
+        String body = """
+                {"title":"One","dueDate":"2030-01-01"}
+                {"title":""}
+                {"title":"Two"}
+
+                not json
+                {"title":"Three"}
+                {"title":"Four","description":"D"}
+                """;
+        TaskImportReader reader = reader(body, TaskExportFormat.NDJSON);
+
+        TaskImportService.Result result = importService.importTasks(project.getId(), owner.getId(), reader);
+
+        assertThat(result.imported()).isEqualTo(4);
+        assertThat(result.chunks()).isEqualTo(2);
+        assertThat(reader.getFailed()).isEqualTo(2);
+        assertThat(reader.getErrors()).extracting(e -> e.getLine()).containsExactly(2L, 5L);
+        assertThat(reader.getErrors().get(0).getMessage()).contains("title");
+
+        List<Task> tasks = taskRepository.findByProjectId(project.getId());
+        assertThat(tasks).extracting(Task::getTitle).containsExactlyInAnyOrder("One", "Two", "Three", "Four");
+        assertThat(tasks).filteredOn(t -> t.getTitle().equals("One"))
+                .extracting(Task::getDueDate).containsExactly(LocalDate.of(2030, 1, 1));
+        assertThat(projectRepository.findSummaryById(project.getId()).orElseThrow().getTotalTasks())
+                .isEqualTo(4);
+    }
+
+    @Test
+    void testCsvImportAcceptsExportedColumnsAndQuotedFields() {
+        String body = "id,title,description,dueDate,status\r\n"
+                + "1,Plain,,2030-02-03,TODO\r\n"
+                + "2,\"Comma, \"\"quoted\"\"\",\"multi\nline\",,DONE\r\n"
+                + "3,Bad date,,tomorrow,TODO\r\n";
+        TaskImportReader reader = reader(body, TaskExportFormat.CSV);
+
+        TaskImportService.Result result = importService.importTasks(project.getId(), owner.getId(), reader);
+
+        assertThat(result.imported()).isEqualTo(2);
+        assertThat(reader.getErrors()).singleElement()
+                .satisfies(e -> assertThat(e.getLine()).isEqualTo(5L));
+        assertThat(taskRepository.findByProjectId(project.getId()))
+                .extracting(Task::getTitle, Task::getDescription)
+                .containsExactlyInAnyOrder(
+                        tuple("Plain", null),
+                        tuple("Comma, \"quoted\"", "multi\nline"));
+    }
+
+    @Test
+    void testOversizedRecordEndsImportWithPartialReport() {
+        // chunk-size=3: the first chunk commits, the over-long record stops the second one
+        String body = """
+                {"title":"One"}
+                {"title":""}
+                {"title":"Two"}
+                {"title":"Three"}
+                {"title":"Four"}
+                {"title":"%s"}
+                {"title":"Never read"}
+                """.formatted("z".repeat(300));
+        TaskImportReader reader = reader(body, TaskExportFormat.NDJSON);
+
+        TaskImportService.Result result = importService.importTasks(project.getId(), owner.getId(), reader);
+
+        assertThat(result.isAborted()).isTrue();
+        assertThat(result.abortReason()).contains("Record at line 6");
+        assertThat(result.imported()).isEqualTo(3);
+        assertThat(result.chunks()).isEqualTo(1);
+        assertThat(reader.getErrors()).extracting(e -> e.getLine()).containsExactly(2L);
+        assertThat(taskRepository.findByProjectId(project.getId()))
+                .extracting(Task::getTitle).containsExactlyInAnyOrder("One", "Two", "Three");
+    }
+
+    @Test
+    void testImportRejectsForeignProjectBeforeReadingBody() {
+        User other = userRepository.save(new User("intruder@example.com", "pass"));
+        TaskImportReader reader = reader("{\"title\":\"X\"}\n", TaskExportFormat.NDJSON);
+
+        assertThatThrownBy(() -> importService.importTasks(project.getId(), other.getId(), reader))
+                .isInstanceOf(SecurityException.class);
+        assertThat(taskRepository.findByProjectId(project.getId())).isEmpty();
+    }
+
+    @Test
+    void testOversizedRecordFailsUploadWithoutBufferingIt() {
+        String unclosedQuote = "title,description\n"
+                + "Ok,fine\n"
+                + "Broken,\"never closed\n" + "x".repeat(200) + "\n" + "y".repeat(200) + "\n";
+        TaskImportReader csv = reader(unclosedQuote, TaskExportFormat.CSV);
+
+        assertThat(csv.next().getTitle()).isEqualTo("Ok");
+        assertThatThrownBy(csv::hasNext)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Record at line 3");
+
+        TaskImportReader ndjson = reader("{\"title\":\"" + "z".repeat(300) + "\"}\n", TaskExportFormat.NDJSON);
+        assertThatThrownBy(ndjson::hasNext)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("maximum record length of 256");
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // each chunk must commit on its own
+    void testFailedChunkRollsBackAloneAndEarlierChunksStayCommitted() {
+        try {
+            // chunk-size=3: the second chunk holds a task without a title and fails on flush
+            Iterator<Task> tasks = List.of(
+                    new Task("A", null, null), new Task("B", null, null), new Task("C", null, null),
+                    new Task("D", null, null), new Task(null, null, null), new Task("F", null, null)
+            ).iterator();
+
+            TaskImportService.Result result = importService.importTasks(project.getId(), owner.getId(), tasks);
+
+            assertThat(result.imported()).isEqualTo(3);
+            assertThat(result.chunks()).isEqualTo(1);
+            assertThat(result.abortReason()).isEqualTo("Chunk 2 failed and was rolled back");
+            assertThat(taskRepository.findByProjectId(project.getId()))
+                    .extracting(Task::getTitle).containsExactlyInAnyOrder("A", "B", "C");
+            assertThat(projectRepository.findSummaryById(project.getId()).orElseThrow().getTotalTasks())
+                    .isEqualTo(3);
+        } finally {
+            jdbcTemplate.update("DELETE FROM tasks WHERE project_id = ?", project.getId());
+            jdbcTemplate.update("DELETE FROM projects WHERE id = ?", project.getId());
+            jdbcTemplate.update("DELETE FROM users WHERE id = ?", owner.getId());
+        }
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // the delete must land between committed chunks
+    void testProjectDeletedMidImportStopsBeforeTheNextChunk() {
+        try {
+            // chunk-size=3: pulling the fourth task means the first chunk has committed
+            Iterator<Task> source = List.of(
+                    new Task("A", null, null), new Task("B", null, null), new Task("C", null, null),
+                    new Task("D", null, null), new Task("E", null, null)
+            ).iterator();
+            Iterator<Task> tasks = new Iterator<>() {
+                private int pulled;
+
+                @Override
+                public boolean hasNext() {
+                    return source.hasNext();
+                }
+
+                @Override
+                public Task next() {
+                    if (++pulled == 4) {
+                        jdbcTemplate.update("UPDATE projects SET deleted_at = CURRENT_TIMESTAMP WHERE id = ?",
+                                project.getId());
+                    }
+                    return source.next();
+                }
+            };
+
+            TaskImportService.Result result = importService.importTasks(project.getId(), owner.getId(), tasks);
+
+            assertThat(result.imported()).isEqualTo(3);
+            assertThat(result.chunks()).isEqualTo(1);
+            assertThat(result.abortReason()).isEqualTo("Project not found with id: " + project.getId());
+
+            assertThat(jdbcTemplate.queryForList(
+                    "SELECT title FROM tasks WHERE project_id = ?", String.class, project.getId()))
+                    .containsExactlyInAnyOrder("A", "B", "C");
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT total_task_count FROM projects WHERE id = ?", Integer.class, project.getId()))
+                    .isEqualTo(3);
+        } finally {
+            jdbcTemplate.update("DELETE FROM tasks WHERE project_id = ?", project.getId());
+            jdbcTemplate.update("DELETE FROM projects WHERE id = ?", project.getId());
+            jdbcTemplate.update("DELETE FROM users WHERE id = ?", owner.getId());
+        }
+    }
+
+    private TaskImportReader reader(String body, TaskExportFormat format) {
+        return new TaskImportReader(new BufferedReader(new StringReader(body)), format, JSON, VALIDATOR, 100, 256);
+    }
+}
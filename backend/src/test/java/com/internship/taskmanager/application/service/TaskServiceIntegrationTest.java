@@ -0,0 +1,243 @@
+package com.internship.taskmanager.application.service;
+
+import com.internship.taskmanager.common.ResourceNotFoundException;
+import com.internship.taskmanager.domain.entity.Project;
+import com.internship.taskmanager.domain.entity.Task;
+import com.internship.taskmanager.domain.entity.TaskStatus;
+import com.internship.taskmanager.domain.entity.User;
+import com.internship.taskmanager.domain.repository.ProjectRepository;
+import com.internship.taskmanager.domain.repository.TaskRepository;
+import com.internship.taskmanager.domain.repository.UserRepository;
+import com.internship.taskmanager.support.StatementCountingConfiguration;
+import com.internship.taskmanager.support.StatementCountingDataSource;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import jakarta.persistence.EntityManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({TaskService.class, OwnershipGuard.class, StatementCountingConfiguration.class})
+class TaskServiceIntegrationTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private OwnershipGuard ownershipGuard;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User owner;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(new User("owner@example.com", "pass"));
+        userRepository.save(new User("other@example.com", "pass"));
+
+        project = new Project("Project A", "Desc");
+        project.assignToUser(owner);
+        projectRepository.save(project);
+    }
+
+    @Test
+    void testCreateTasksInsertsWholeBatchAndUpdatesCounters() {
+        List<Task> tasks = IntStream.rangeClosed(1, 120)
+                .mapToObj(i -> new Task("Task " + i, "Desc", LocalDate.now()))
+                .toList();
+
+        List<Long> ids = taskService.createTasks(tasks, project.getId(), owner.getId());
+
+        assertThat(ids).hasSize(120).doesNotHaveDuplicates().doesNotContainNull();
+        assertThat(taskRepository.findByProjectId(project.getId())).hasSize(120);
+        assertThat(projectRepository.findSummaryById(project.getId()).orElseThrow().getTotalTasks())
+                .isEqualTo(120);
+    }
+
+    @Test
+    void testCreateTasksRejectsForeignProject() {
+        User other = userRepository.findByEmail("other@example.com").orElseThrow();
+
+        assertThatThrownBy(() -> taskService.createTasks(
+                List.of(new Task("Task", "Desc", null)), project.getId(), other.getId()))
+                .isInstanceOf(SecurityException.class);
+    }
+
+    @Test
+    void testBulkStatusByFilterOnlyTouchesMatchingTasks() {
+        LocalDate today = LocalDate.now();
+        List<Long> ids = taskService.createTasks(List.of(
+                new Task("Overdue", "Desc", today.minusDays(3)),
+                new Task("Due later", "Desc", today.plusDays(3)),
+                new Task("No due date", "Desc", null)
+        ), project.getId(), owner.getId());
+
+        int updated = taskService.updateStatusByFilter(
+                project.getId(), TaskStatus.TODO, today, TaskStatus.DONE, owner.getId());
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(taskRepository.findById(ids.get(0)).orElseThrow().getStatus()).isEqualTo(TaskStatus.DONE);
+        assertThat(taskRepository.findById(ids.get(1)).orElseThrow().getStatus()).isEqualTo(TaskStatus.TODO);
+        assertThat(projectRepository.findSummaryById(project.getId()).orElseThrow().getCompletedTasks())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void testBulkStatusByIdsIgnoresForeignTasks() {
+        List<Long> ids = taskService.createTasks(List.of(
+                new Task("Task 1", "Desc", null),
+                new Task("Task 2", "Desc", null)
+        ), project.getId(), owner.getId());
+        User other = userRepository.findByEmail("other@example.com").orElseThrow();
+
+        assertThat(taskService.updateStatus(ids, TaskStatus.DONE, other.getId())).isZero();
+        assertThat(taskService.updateStatus(ids, TaskStatus.DONE, owner.getId())).isEqualTo(2);
+        // Already DONE: nothing left to transition
+        assertThat(taskService.updateStatus(ids, TaskStatus.DONE, owner.getId())).isZero();
+        assertThat(projectRepository.findSummaryById(project.getId()).orElseThrow().getCompletedTasks())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void testBulkStatusByIdsAdjustsCountersPerProject() {
+        Project second = new Project("Project B", "Desc");
+        second.assignToUser(owner);
+        projectRepository.save(second);
+        List<Long> inFirst = taskService.createTasks(List.of(
+                new Task("A1", "Desc", null),
+                new Task("A2", "Desc", null),
+                new Task("A3", "Desc", null)
+        ), project.getId(), owner.getId());
+        List<Long> inSecond = taskService.createTasks(List.of(new Task("B1", "Desc", null)), second.getId(), owner.getId());
+        taskService.completeTask(inFirst.get(0), owner.getId(), null);
+
+        List<Long> ids = List.of(inFirst.get(0), inFirst.get(1), inFirst.get(2), inSecond.get(0));
+        assertThat(taskService.updateStatus(ids, TaskStatus.DONE, owner.getId())).isEqualTo(3);
+        assertThat(projectRepository.findSummaryById(project.getId()).orElseThrow().getCompletedTasks()).isEqualTo(3);
+        assertThat(projectRepository.findSummaryById(second.getId()).orElseThrow().getCompletedTasks()).isEqualTo(1);
+
+        assertThat(taskService.updateStatus(ids.subList(1, 4), TaskStatus.TODO, owner.getId())).isEqualTo(3);
+        assertThat(projectRepository.findSummaryById(project.getId()).orElseThrow().getCompletedTasks()).isEqualTo(1);
+        assertThat(projectRepository.findSummaryById(second.getId()).orElseThrow().getCompletedTasks()).isZero();
+    }
+
+    @Test
+    void testExportStreamsFilteredTasksInIdOrderWithoutRetainingThem() {
+        List<Long> ids = taskService.createTasks(IntStream.rangeClosed(1, 60)
+                .mapToObj(i -> new Task("Task " + i, "Desc", null))
+                .toList(), project.getId(), owner.getId());
+        taskService.updateStatus(ids.subList(0, 20), TaskStatus.DONE, owner.getId());
+
+        List<Task> exported = new ArrayList<>();
+        long count = taskService.exportTasks(project.getId(), TaskStatus.DONE, owner.getId(), exported::add);
+
+        assertThat(count).isEqualTo(20);
+        assertThat(exported).extracting(Task::getId).containsExactlyElementsOf(ids.subList(0, 20));
+        assertThat(exported).noneMatch(entityManager::contains);
+
+        User other = userRepository.findByEmail("other@example.com").orElseThrow();
+        assertThatThrownBy(() -> taskService.exportTasks(project.getId(), null, other.getId(), task -> { }))
+                .isInstanceOf(SecurityException.class);
+    }
+
+    @Test
+    void testTaskAccessDistinguishesMissingFromForeign() {
+        Long taskId = taskService.createTasks(
+                List.of(new Task("Guarded", "Desc", null)), project.getId(), owner.getId()).get(0);
+        User other = userRepository.findByEmail("other@example.com").orElseThrow();
+
+        assertThat(taskService.completeTask(taskId, owner.getId(), null).isCompleted()).isTrue();
+        assertThatThrownBy(() -> taskService.completeTask(taskId, other.getId(), null))
+                .isInstanceOf(SecurityException.class);
+        assertThatThrownBy(() -> taskService.deleteTask(taskId + 10_000, owner.getId()))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> taskService.getTasksByProjectAfterCursor(
+                project.getId() + 10_000, null, null, null, 10, owner.getId()))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void testTasksOfDeletedProjectAreNotFound() {
+        Long taskId = taskService.createTasks(
+                List.of(new Task("Orphaned", "Desc", null)), project.getId(), owner.getId()).get(0);
+        projectRepository.findById(project.getId()).orElseThrow().markDeleted();
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThatThrownBy(() -> taskService.completeTask(taskId, owner.getId(), null))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // READ_WRITE entries are only read by later transactions
+    void testOwnershipChecksOnWarmCacheSendNoProjectOrUserSelect() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        try {
+            Long taskId = taskService.createTasks(
+                    List.of(new Task("Cached", "Desc", null)), project.getId(), owner.getId()).get(0);
+            User other = userRepository.findByEmail("other@example.com").orElseThrow();
+            // Warms the "projects" region
+            tx.executeWithoutResult(status -> ownershipGuard.checkProjectOwner(project.getId(), owner.getId()));
+
+            StatementCountingDataSource.Counts projectChecks = StatementCountingDataSource.start();
+            try {
+                tx.executeWithoutResult(status -> {
+                    Project cached = ownershipGuard.requireOwnedProject(project.getId(), owner.getId());
+                    assertThat(Hibernate.isInitialized(cached.getUser())).isFalse();
+                    assertThatThrownBy(() -> ownershipGuard.checkProjectOwner(project.getId(), other.getId()))
+                            .isInstanceOf(SecurityException.class);
+                });
+            } finally {
+                StatementCountingDataSource.stop();
+            }
+            assertThat(projectChecks.getSelects()).isZero();
+
+            // Tasks: one select joining the task to its owner, whatever the cache holds
+            StatementCountingDataSource.Counts taskCheck = StatementCountingDataSource.start();
+            try {
+                tx.executeWithoutResult(status -> ownershipGuard.requireOwnedTask(taskId, owner.getId()));
+            } finally {
+                StatementCountingDataSource.stop();
+            }
+            assertThat(taskCheck.getSelects()).isEqualTo(1);
+        } finally {
+            jdbcTemplate.update("DELETE FROM tasks WHERE project_id = ?", project.getId());
+            jdbcTemplate.update("DELETE FROM projects WHERE user_id = ?", owner.getId());
+            jdbcTemplate.update("DELETE FROM users WHERE email IN ('owner@example.com', 'other@example.com')");
+        }
+    }
+}
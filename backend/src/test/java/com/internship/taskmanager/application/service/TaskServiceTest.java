@@ -4,10 +4,12 @@ import com.internship.taskmanager.domain.entity.Project;
 import com.internship.taskmanager.domain.entity.Task;
 import com.internship.taskmanager.domain.entity.TaskStatus;
 import com.internship.taskmanager.domain.entity.User;
+import com.internship.taskmanager.domain.repository.Owned;
 import com.internship.taskmanager.domain.repository.ProjectRepository;
 import com.internship.taskmanager.domain.repository.TaskRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
 import java.util.Optional;
@@ -26,7 +28,9 @@ class TaskServiceTest {
     void setUp() {
         taskRepository = mock(TaskRepository.class);
         projectRepository = mock(ProjectRepository.class);
-        taskService = new TaskService(taskRepository, projectRepository);
+        taskService = new TaskService(
+                taskRepository, projectRepository, new OwnershipGuard(taskRepository, projectRepository),
+                mock(ApplicationEventPublisher.class));
     }
 
 
@@ -41,6 +45,8 @@ void testCreateTask() {
 
     when(projectRepository.findById(1L))
             .thenReturn(Optional.of(project));
+    when(projectRepository.getReferenceById(1L))
+            .thenReturn(project);
 
     when(taskRepository.save(any(Task.class)))
             .thenAnswer(invocation -> invocation.getArgument(0));
@@ -57,6 +63,7 @@ void testCreateTask() {
     // THEN
     assertEquals("Task 1", created.getTitle());
     assertEquals(project, created.getProject());
+    verify(projectRepository).adjustTaskCounters(1L, 1, 0);
 }
 
 
@@ -72,17 +79,18 @@ void testCompleteTask() {
     Task task = new Task("Task 1", "Desc", LocalDate.now());
     task.assignToProject(project);
 
-    when(taskRepository.findById(1L))
-            .thenReturn(Optional.of(task));
+    when(taskRepository.findWithOwnerById(1L))
+            .thenReturn(Optional.of(new Owned<>(task, 1L)));
 
     when(taskRepository.save(any(Task.class)))
             .thenAnswer(invocation -> invocation.getArgument(0));
 
     // WHEN
-    Task completed = taskService.completeTask(1L, 1L);
+    Task completed = taskService.completeTask(1L, 1L, null);
 
     // THEN
     assertEquals(TaskStatus.DONE, completed.getStatus());
+    verify(projectRepository).adjustTaskCounters(project.getId(), 0, 1);
 }
 
 }
@@ -0,0 +1,146 @@
+package com.internship.taskmanager.common.cache;
+
+import com.internship.taskmanager.application.service.OwnershipGuard;
+import com.internship.taskmanager.domain.entity.Project;
+import com.internship.taskmanager.domain.entity.User;
+import com.internship.taskmanager.domain.repository.ProjectRepository;
+import com.internship.taskmanager.domain.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({EntityCacheInvalidator.class, InMemoryCacheInvalidationBus.class, OwnershipGuard.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // cache puts and invalidations happen on commit
+class EntityCacheInvalidatorTest {
+
+    @Autowired
+    private EntityCacheInvalidator invalidator;
+
+    @Autowired
+    private CacheInvalidationBus bus;
+
+    @Autowired
+    private OwnershipGuard ownershipGuard;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<CacheInvalidationMessage> published = new CopyOnWriteArrayList<>();
+    private TransactionTemplate tx;
+    private Long userId;
+    private Long projectId;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        bus.subscribe(published::add);
+
+        tx.executeWithoutResult(status -> {
+            User user = userRepository.save(new User("cache@example.com", "pass"));
+            Project project = new Project("Cached", "Desc");
+            project.assignToUser(user);
+            projectRepository.save(project);
+            userId = user.getId();
+            projectId = project.getId();
+        });
+        entityManagerFactory.getCache().evictAll();
+        published.clear();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM projects WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void testSecondLoadIsServedFromCacheAndCounted() {
+        CacheRegionStatistics stats = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getStatistics().getDomainDataRegionStatistics("projects");
+        long hitsBefore = stats.getHitCount();
+
+        tx.executeWithoutResult(status -> projectRepository.findById(projectId).orElseThrow());
+        assertThat(entityManagerFactory.getCache().contains(Project.class, projectId)).isTrue();
+
+        tx.executeWithoutResult(status -> projectRepository.findById(projectId).orElseThrow());
+        assertThat(stats.getHitCount()).isGreaterThan(hitsBefore);
+    }
+
+    @Test
+    void testOwnershipChecksAreServedFromTheProjectsRegion() {
+        CacheRegionStatistics stats = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getStatistics().getDomainDataRegionStatistics("projects");
+        tx.executeWithoutResult(status -> ownershipGuard.checkProjectOwner(projectId, userId));
+        long hitsBefore = stats.getHitCount();
+        long missesBefore = stats.getMissCount();
+
+        tx.executeWithoutResult(status -> ownershipGuard.checkProjectOwner(projectId, userId));
+
+        assertThat(stats.getHitCount()).isEqualTo(hitsBefore + 1);
+        assertThat(stats.getMissCount()).isEqualTo(missesBefore);
+    }
+
+    @Test
+    void testCommittedUpdateIsBroadcastToOtherNodes() {
+        tx.executeWithoutResult(status ->
+                projectRepository.findById(projectId).orElseThrow().update("Renamed", "Desc"));
+
+        assertThat(published).containsExactly(new CacheInvalidationMessage(
+                invalidator.getNodeId(), Project.class.getName(), projectId));
+    }
+
+    @Test
+    void testCounterWriteEvictsLocallyAfterCommitAndBroadcasts() {
+        tx.executeWithoutResult(status -> projectRepository.findById(projectId).orElseThrow());
+
+        tx.executeWithoutResult(status -> projectRepository.adjustTaskCounters(projectId, 3, 1));
+
+        assertThat(entityManagerFactory.getCache().contains(Project.class, projectId)).isFalse();
+        assertThat(published).extracting(CacheInvalidationMessage::id).containsExactly(projectId);
+        Project reloaded = tx.execute(status -> projectRepository.findById(projectId).orElseThrow());
+        assertThat(reloaded.getTotalTaskCount()).isEqualTo(3);
+    }
+
+    @Test
+    void testMessageFromAnotherNodeEvictsLocalEntryButOwnMessageDoesNot() {
+        tx.executeWithoutResult(status -> projectRepository.findById(projectId).orElseThrow());
+
+        bus.publish(new CacheInvalidationMessage(invalidator.getNodeId(), Project.class.getName(), projectId));
+        assertThat(entityManagerFactory.getCache().contains(Project.class, projectId)).isTrue();
+
+        bus.publish(new CacheInvalidationMessage("other-node", Project.class.getName(), projectId));
+        assertThat(entityManagerFactory.getCache().contains(Project.class, projectId)).isFalse();
+    }
+}
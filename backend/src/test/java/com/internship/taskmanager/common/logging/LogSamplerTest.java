@@ -0,0 +1,63 @@
+package com.internship.taskmanager.common.logging;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LogSamplerTest {
+
+    @Test
+    void testAllowsPermitsPerWindowAndCountsTheRest() {
+        LogSampler sampler = new LogSampler(3, Duration.ofHours(1));
+
+        long allowed = IntStream.range(0, 10).filter(i -> sampler.tryAcquire()).count();
+
+        assertThat(allowed).isEqualTo(3);
+        assertThat(sampler.takeSuppressed()).isEqualTo(7);
+        assertThat(sampler.takeSuppressed()).isZero();
+    }
+
+    @Test
+    void testNewWindowRestoresPermits() throws InterruptedException {
+        LogSampler sampler = new LogSampler(1, Duration.ofMillis(20));
+
+        assertThat(sampler.tryAcquire()).isTrue();
+        assertThat(sampler.tryAcquire()).isFalse();
+        Thread.sleep(30);
+        assertThat(sampler.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void testConcurrentCallersNeverExceedTheBudget() throws InterruptedException {
+        LogSampler sampler = new LogSampler(50, Duration.ofHours(1));
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = IntStream.range(0, 8)
+                .mapToObj(i -> Thread.ofPlatform().start(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    for (int j = 0; j < 1000; j++) {
+                        if (sampler.tryAcquire()) {
+                            allowed.incrementAndGet();
+                        }
+                    }
+                }))
+                .toList();
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(allowed.get()).isEqualTo(50);
+        assertThat(sampler.takeSuppressed()).isEqualTo(8 * 1000 - 50);
+    }
+}
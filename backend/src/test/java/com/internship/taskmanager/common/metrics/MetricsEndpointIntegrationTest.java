@@ -0,0 +1,91 @@
+package com.internship.taskmanager.common.metrics;
+
+import com.internship.taskmanager.domain.entity.Project;
+import com.internship.taskmanager.domain.entity.User;
+import com.internship.taskmanager.domain.repository.ProjectRepository;
+import com.internship.taskmanager.domain.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.client.RestClient;
+import tools.jackson.databind.json.JsonMapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"management.defaults.metrics.export.enabled=true", "management.server.port=0"}
+)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class MetricsEndpointIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    @LocalManagementPort
+    private int managementPort;
+
+    @Test
+    void testPrometheusEndpointExposesApiAuthJpaAndPoolMetricsOnManagementPortOnly() throws Exception {
+        User user = userRepository.save(new User("metrics@example.com", passwordEncoder.encode("secret")));
+        Project project = new Project("Observed", "Desc");
+        project.assignToUser(user);
+        projectRepository.save(project);
+
+        String login = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"metrics@example.com\",\"password\":\"secret\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String token = jsonMapper.readTree(login).get("token").asString();
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"metrics@example.com\",\"password\":\"wrong\"}"))
+                .andExpect(status().isUnauthorized());
+
+        mockMvc.perform(get("/api/projects").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        // Not served on the API port: the open scrape rule only applies to the management port
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isUnauthorized());
+
+        String scrape = RestClient.create().get()
+                .uri("http://127.0.0.1:" + managementPort + "/actuator/prometheus")
+                .retrieve()
+                .body(String.class);
+
+        assertThat(scrape)
+                .contains("http_server_requests_seconds_count{")
+                .contains("uri=\"/api/projects\"")
+                .contains("auth_login_total{")
+                .contains("result=\"failure\"")
+                .contains("auth_jwt_requests_total{")
+                .contains("outcome=\"authenticated\"")
+                .contains("hibernate_request_statements_count{")
+                .contains("hibernate_request_entity_loads_sum{")
+                .contains("hikaricp_connections_pending");
+    }
+}
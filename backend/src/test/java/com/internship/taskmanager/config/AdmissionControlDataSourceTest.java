@@ -0,0 +1,50 @@
+package com.internship.taskmanager.config;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AdmissionControlDataSourceTest {
+
+    @Test
+    void testCapsCheckoutsAndReleasesPermitOnceOnClose() throws Exception {
+        DataSource pool = mock(DataSource.class);
+        Connection physical = mock(Connection.class);
+        when(pool.getConnection()).thenReturn(physical);
+        AdmissionControlDataSource dataSource = new AdmissionControlDataSource(pool, 1, Duration.ofMillis(50));
+
+        Connection first = dataSource.getConnection();
+        assertThat(dataSource.getActive()).isEqualTo(1);
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+
+        first.close();
+        first.close();
+        verify(physical, times(2)).close();
+        assertThat(dataSource.getActive()).isZero();
+
+        try (Connection second = dataSource.getConnection()) {
+            assertThat(second.unwrap(Connection.class)).isSameAs(second);
+        }
+        assertThat(dataSource.getActive()).isZero();
+    }
+
+    @Test
+    void testPermitIsReturnedWhenThePoolFails() throws Exception {
+        DataSource pool = mock(DataSource.class);
+        when(pool.getConnection()).thenThrow(new SQLTransientConnectionException("pool exhausted"));
+        AdmissionControlDataSource dataSource = new AdmissionControlDataSource(pool, 1, Duration.ofMillis(50));
+
+        assertThatThrownBy(dataSource::getConnection).hasMessage("pool exhausted");
+        assertThat(dataSource.getActive()).isZero();
+    }
+}
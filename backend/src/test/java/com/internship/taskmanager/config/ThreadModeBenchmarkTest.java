@@ -0,0 +1,133 @@
+package com.internship.taskmanager.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the two request execution modes on the same blocking workload:
+ * a Tomcat-sized platform thread pool versus one virtual thread per request,
+ * both behind the database admission cap.
+ * Each simulated request does one indexed query and some other blocking I/O (downstream latency).
+ * Run with {@code mvn -Pbenchmark test}.
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ThreadModeBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ThreadModeBenchmarkTest.class);
+
+    private static final int REQUESTS = 20_000;
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final int POOL_SIZE = 10;
+    private static final Duration OTHER_IO = Duration.ofMillis(20);
+
+    private HikariDataSource pool;
+    private AdmissionControlDataSource dataSource;
+
+    @BeforeAll
+    void setUp() throws Exception {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:thread-mode-bench;DB_CLOSE_DELAY=-1");
+        config.setMaximumPoolSize(POOL_SIZE);
+        pool = new HikariDataSource(config);
+        dataSource = new AdmissionControlDataSource(pool, POOL_SIZE, Duration.ofSeconds(60));
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.createStatement().execute(
+                    "CREATE TABLE tasks (id BIGINT PRIMARY KEY, title VARCHAR(255))");
+            connection.createStatement().execute(
+                    "INSERT INTO tasks SELECT X, 'Task ' || X FROM SYSTEM_RANGE(1, 10000)");
+        }
+    }
+
+    @AfterAll
+    void tearDown() {
+        pool.close();
+    }
+
+    @Test
+    void comparePlatformAndVirtualThreads() throws Exception {
+        // Warm-up so both runs see a hot pool and JIT-compiled code
+        run(Executors.newVirtualThreadPerTaskExecutor(), 2_000);
+
+        Result platform = run(Executors.newFixedThreadPool(TOMCAT_MAX_THREADS), REQUESTS);
+        Result virtual = run(Executors.newVirtualThreadPerTaskExecutor(), REQUESTS);
+
+        log.info("Thread mode benchmark:\n{}\n{}\n{}",
+                String.format("%-9s %10s %10s %10s %10s", "mode", "req/s", "p50 ms", "p99 ms", "max conns"),
+                platform.format("platform"), virtual.format("virtual"));
+
+        assertThat(platform.maxActive()).isLessThanOrEqualTo(POOL_SIZE);
+        assertThat(virtual.maxActive()).isLessThanOrEqualTo(POOL_SIZE);
+    }
+
+    private Result run(ExecutorService executor, int requests) throws Exception {
+        AtomicInteger maxActive = new AtomicInteger();
+        long[] latencies = new long[requests];
+        long started = System.nanoTime();
+
+        try (executor) {
+            List<Future<?>> futures = new ArrayList<>(requests);
+            for (int i = 0; i < requests; i++) {
+                int request = i;
+                long submitted = System.nanoTime();
+                futures.add(executor.submit(() -> {
+                    handle(request, maxActive);
+                    latencies[request] = System.nanoTime() - submitted;
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        long elapsed = System.nanoTime() - started;
+        Arrays.sort(latencies);
+        return new Result(
+                requests * 1e9 / elapsed,
+                latencies[requests / 2] / 1e6,
+                latencies[(int) (requests * 0.99)] / 1e6,
+                maxActive.get());
+    }
+
+    private void handle(int request, AtomicInteger maxActive) throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT title FROM tasks WHERE id = ?")) {
+            maxActive.accumulateAndGet(dataSource.getActive(), Math::max);
+            statement.setLong(1, request % 10_000 + 1);
+            try (ResultSet rs = statement.executeQuery()) {
+                rs.next();
+            }
+        }
+        Thread.sleep(OTHER_IO);
+    }
+
+    private record Result(double throughput, double p50Millis, double p99Millis, int maxActive) {
+
+        String format(String mode) {
+            return String.format("%-9s %10.0f %10.1f %10.1f %10d", mode, throughput, p50Millis, p99Millis, maxActive);
+        }
+    }
+}
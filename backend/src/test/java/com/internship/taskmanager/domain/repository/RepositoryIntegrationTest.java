@@ -1,12 +1,18 @@
 package com.internship.taskmanager.domain.repository;
 
+import com.internship.taskmanager.application.job.TaskCounterReconciliationJob;
 import com.internship.taskmanager.domain.entity.Project;
 import com.internship.taskmanager.domain.entity.Task;
+import com.internship.taskmanager.domain.entity.TaskStatus;
 import com.internship.taskmanager.domain.entity.User;
 
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDate;
@@ -16,6 +22,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
 @ActiveProfiles("test")
+@Import(TaskCounterReconciliationJob.class)
 class RepositoryIntegrationTest {
 
     @Autowired
@@ -27,6 +34,12 @@ class RepositoryIntegrationTest {
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private TaskCounterReconciliationJob reconciliationJob;
+
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     void testProjectAndTaskPersistence() {
         // --- Create and save a user ---
@@ -57,4 +70,159 @@ class RepositoryIntegrationTest {
         assertThat(projectTasks).extracting(Task::getTitle)
                                 .containsExactlyInAnyOrder("Task 1", "Task 2");
     }
+
+    @Test
+    void testProjectSummariesReadPersistedCounters() {
+        User user = new User("summary@example.com", "pass");
+        userRepository.save(user);
+
+        Project withTasks = new Project("Project A", "Desc");
+        withTasks.assignToUser(user);
+        projectRepository.save(withTasks);
+
+        Project empty = new Project("Project B", "Desc");
+        empty.assignToUser(user);
+        projectRepository.save(empty);
+
+        Task done = new Task("Task 1", "Desc", LocalDate.now());
+        done.assignToProject(withTasks);
+        done.markAsCompleted();
+        Task todo = new Task("Task 2", "Desc", LocalDate.now());
+        todo.assignToProject(withTasks);
+        taskRepository.save(done);
+        taskRepository.save(todo);
+        projectRepository.adjustTaskCounters(withTasks.getId(), 2, 1);
+
+        List<ProjectSummary> summaries = projectRepository.findSummariesByUserId(user.getId());
+
+        assertThat(summaries).hasSize(2);
+        assertThat(summaries.get(0).getTotalTasks()).isEqualTo(2);
+        assertThat(summaries.get(0).getCompletedTasks()).isEqualTo(1);
+        assertThat(summaries.get(0).getProgressPercentage()).isEqualTo(50);
+        assertThat(summaries.get(1).getTotalTasks()).isZero();
+        assertThat(summaries.get(1).getProgressPercentage()).isZero();
+
+        ProjectSummary single = projectRepository.findSummaryById(withTasks.getId()).orElseThrow();
+        assertThat(single.getOwnerId()).isEqualTo(user.getId());
+        assertThat(single.getCompletedTasks()).isEqualTo(1);
+    }
+
+    @Test
+    void testReconciliationCorrectsDriftedCounters() {
+        User user = new User("drift@example.com", "pass");
+        userRepository.save(user);
+
+        Project project = new Project("Project A", "Desc");
+        project.assignToUser(user);
+        projectRepository.save(project);
+
+        // Tasks saved directly through the repository bypass counter maintenance
+        Task done = new Task("Task 1", "Desc", LocalDate.now());
+        done.assignToProject(project);
+        done.markAsCompleted();
+        Task todo = new Task("Task 2", "Desc", LocalDate.now());
+        todo.assignToProject(project);
+        taskRepository.save(done);
+        taskRepository.save(todo);
+
+        TaskCounterReconciliationJob.Report report = reconciliationJob.reconcile();
+
+        assertThat(report.corrected()).isGreaterThanOrEqualTo(1);
+        ProjectSummary summary = projectRepository.findSummaryById(project.getId()).orElseThrow();
+        assertThat(summary.getTotalTasks()).isEqualTo(2);
+        assertThat(summary.getCompletedTasks()).isEqualTo(1);
+        assertThat(reconciliationJob.reconcile().corrected()).isZero();
+    }
+
+    @Test
+    void testKeysetSliceSeeksPastCursorAndKeepsFilters() {
+        User user = new User("keyset@example.com", "pass");
+        userRepository.save(user);
+
+        Project project = new Project("Project A", "Desc");
+        project.assignToUser(user);
+        projectRepository.save(project);
+
+        for (int i = 1; i <= 5; i++) {
+            Task task = new Task("Task " + i, "Desc", LocalDate.now());
+            task.assignToProject(project);
+            if (i % 2 == 0) {
+                task.markAsCompleted();
+            }
+            taskRepository.save(task);
+        }
+
+        Slice<Task> first = taskRepository.findSliceByProjectIdWithFilters(
+                project.getId(), TaskStatus.TODO, null, 0L, PageRequest.of(0, 2));
+        assertThat(first.getContent()).extracting(Task::getTitle).containsExactly("Task 1", "Task 3");
+        assertThat(first.hasNext()).isTrue();
+
+        Long lastId = first.getContent().get(1).getId();
+        Slice<Task> second = taskRepository.findSliceByProjectIdWithFilters(
+                project.getId(), TaskStatus.TODO, null, lastId, PageRequest.of(0, 2));
+        assertThat(second.getContent()).extracting(Task::getTitle).containsExactly("Task 5");
+        assertThat(second.hasNext()).isFalse();
+
+        Slice<Task> byTitle = taskRepository.findSliceByProjectIdWithFilters(
+                project.getId(), null, "%task 4%", 0L, PageRequest.of(0, 2));
+        assertThat(byTitle.getContent()).extracting(Task::getTitle).containsExactly("Task 4");
+    }
+
+    @Test
+    void testSearchMatchesTitleAndDescriptionWithTitleHitsFirst() {
+        User user = new User("search@example.com", "pass");
+        userRepository.save(user);
+
+        Project project = new Project("Project A", "Desc");
+        project.assignToUser(user);
+        projectRepository.save(project);
+
+        Task inDescription = new Task("Write notes", "Prepare the release checklist", LocalDate.now());
+        inDescription.assignToProject(project);
+        Task inTitle = new Task("Release checklist", "Final review", LocalDate.now());
+        inTitle.assignToProject(project);
+        Task unrelated = new Task("Fix login", "Token bug", LocalDate.now());
+        unrelated.assignToProject(project);
+        taskRepository.save(inDescription);
+        taskRepository.save(inTitle);
+        taskRepository.save(unrelated);
+
+        Slice<Task> results = taskRepository.searchInProject(project.getId(), "Release Checklist", PageRequest.of(0, 10));
+
+        assertThat(results.getContent()).extracting(Task::getTitle)
+                .containsExactly("Release checklist", "Write notes");
+        assertThat(results.hasNext()).isFalse();
+
+        Slice<Task> firstPage = taskRepository.searchInProject(project.getId(), "checklist", PageRequest.of(0, 1));
+        assertThat(firstPage.getContent()).hasSize(1);
+        assertThat(firstPage.hasNext()).isTrue();
+    }
+
+    @Test
+    void testSearchTreatsWildcardsLiterallyAndStopsAtTheCandidateCap() {
+        User user = userRepository.save(new User("search-cap@example.com", "pass"));
+        Project project = new Project("Project B", "Desc");
+        project.assignToUser(user);
+        projectRepository.save(project);
+        for (String title : List.of("Discount 50%", "Discount 500", "snake_case", "snakeXcase", "Other")) {
+            Task task = new Task(title, null, null);
+            task.assignToProject(project);
+            taskRepository.save(task);
+        }
+
+        assertThat(taskRepository.searchInProject(project.getId(), "50%", PageRequest.of(0, 10)).getContent())
+                .extracting(Task::getTitle).containsExactly("Discount 50%");
+        assertThat(taskRepository.searchInProject(project.getId(), "snake_case", PageRequest.of(0, 10)).getContent())
+                .extracting(Task::getTitle).containsExactly("snake_case");
+
+        // Three candidates at most: the second page of two is cut short and ends the results
+        TaskSearchRepositoryImpl capped = new TaskSearchRepositoryImpl(entityManager, 3);
+        Slice<Task> first = capped.searchInProject(project.getId(), "c", PageRequest.of(0, 2));
+        Slice<Task> second = capped.searchInProject(project.getId(), "c", PageRequest.of(1, 2));
+        assertThat(first.getContent()).hasSize(2);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.getContent()).hasSize(1);
+        assertThat(second.hasNext()).isFalse();
+        assertThat(capped.searchInProject(project.getId(), "c", PageRequest.of(2, 2)).getContent()).isEmpty();
+    }
 }
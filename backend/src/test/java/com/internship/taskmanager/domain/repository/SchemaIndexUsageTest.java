@@ -0,0 +1,84 @@
+package com.internship.taskmanager.domain.repository;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the hot query shapes against the Flyway-migrated schema
+ * and checks that the planner picks the intended secondary index.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // ANALYZE commits, so seed outside test transactions
+class SchemaIndexUsageTest {
+
+    private static final long USER_ID = 900_001L;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Realistic row counts and column statistics so the cost-based planner has something to go on
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("INSERT INTO users (id, email, password, created_at, updated_at) " +
+                "VALUES (?, 'plan@example.com', 'pass', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", USER_ID);
+        for (long project = 1; project <= 20; project++) {
+            jdbcTemplate.update("INSERT INTO projects (id, user_id, title, created_at, updated_at) " +
+                    "VALUES (?, ?, 'Project', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", USER_ID + project, USER_ID);
+        }
+        jdbcTemplate.update("INSERT INTO tasks (project_id, title, status, due_date, created_at, updated_at) " +
+                "SELECT ? + MOD(X, 20) + 1, 'Task ' || X, CASE WHEN MOD(X, 3) = 0 THEN 'DONE' ELSE 'TODO' END, " +
+                "DATEADD('DAY', MOD(X, 90), DATE '2030-01-01'), CURRENT_TIMESTAMP, CURRENT_TIMESTAMP " +
+                "FROM SYSTEM_RANGE(1, 2000)", USER_ID);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM tasks WHERE project_id IN (SELECT id FROM projects WHERE user_id = ?)", USER_ID);
+        jdbcTemplate.update("DELETE FROM projects WHERE user_id = ?", USER_ID);
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", USER_ID);
+    }
+
+    @Test
+    void testProjectsByUserUseUserIndex() {
+        // H2 backs every foreign key with its own index, which is equivalent here;
+        // PostgreSQL does not, and relies on idx_projects_user_id
+        assertThat(plan("SELECT id, title FROM projects WHERE user_id = 900001 ORDER BY id"))
+                .doesNotContain("TABLESCAN")
+                .containsAnyOf("IDX_PROJECTS_USER_ID", "FK_PROJECTS_USER_INDEX");
+    }
+
+    @Test
+    void testTasksByProjectAndStatusUseCompositeIndex() {
+        assertThat(plan("SELECT id, title FROM tasks WHERE project_id = 900002 AND status = 'TODO'"))
+                .contains("IDX_TASKS_PROJECT_STATUS");
+    }
+
+    @Test
+    void testTasksByProjectUseProjectIndex() {
+        assertThat(plan("SELECT id, title FROM tasks WHERE project_id = 900002 AND id > 0 ORDER BY id"))
+                .contains("IDX_TASKS_PROJECT_ID");
+    }
+
+    @Test
+    void testTasksByDueDateUseDueDateIndex() {
+        assertThat(plan("SELECT id FROM tasks WHERE project_id = 900002 AND due_date < DATE '2030-01-01'"))
+                .contains("IDX_TASKS_PROJECT_DUE_DATE");
+    }
+
+    private String plan(String sql) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class).toUpperCase();
+    }
+}
@@ -0,0 +1,333 @@
+package com.internship.taskmanager.loadtest;
+
+import com.internship.taskmanager.application.service.TaskService;
+import com.internship.taskmanager.domain.entity.Project;
+import com.internship.taskmanager.domain.entity.Task;
+import com.internship.taskmanager.domain.entity.User;
+import com.internship.taskmanager.domain.repository.ProjectRepository;
+import com.internship.taskmanager.domain.repository.UserRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end load test: boots the application on a real port, seeds a dataset through the services,
+ * then drives concurrent authenticated traffic over HTTP and reports throughput and p50/p95/p99 per endpoint.
+ * Each worker is one user working on its own projects, so writes never contend across workers.
+ * <p>
+ * Run with {@code mvn -Pload-test test}. Uses the in-memory H2 database by default; point it at another
+ * database with {@code -Dloadtest.profile=local}. Dataset and traffic are sized with
+ * {@code -Dloadtest.users}, {@code -Dloadtest.projects-per-user}, {@code -Dloadtest.tasks-per-project},
+ * {@code -Dloadtest.warmup} and {@code -Dloadtest.duration} (ISO-8601, e.g. PT60S).
+ * Results are printed and written to {@code target/load-test/results.json}.
+ */
+@Tag("load-test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ApiLoadTest {
+
+    private static final int USERS = Integer.getInteger("loadtest.users", 16);
+    private static final int PROJECTS_PER_USER = Integer.getInteger("loadtest.projects-per-user", 5);
+    private static final int TASKS_PER_PROJECT = Integer.getInteger("loadtest.tasks-per-project", 200);
+    private static final Duration WARMUP = Duration.parse(System.getProperty("loadtest.warmup", "PT5S"));
+    private static final Duration DURATION = Duration.parse(System.getProperty("loadtest.duration", "PT30S"));
+    private static final String PASSWORD = "load-test-password";
+    private static final int PAGE_SIZE = 20;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final List<SeededUser> users = new ArrayList<>();
+
+    @BeforeAll
+    void seed() {
+        // One hash for everyone: seeding should not be dominated by BCrypt
+        String passwordHash = passwordEncoder.encode(PASSWORD);
+        String run = Long.toString(System.currentTimeMillis(), 36);
+
+        for (int u = 0; u < USERS; u++) {
+            User user = userRepository.save(new User("load-" + run + "-" + u + "@example.com", passwordHash));
+            SeededUser seeded = new SeededUser(user.getEmail());
+
+            for (int p = 0; p < PROJECTS_PER_USER; p++) {
+                Project project = new Project("Load project " + p, "Seeded by ApiLoadTest");
+                project.assignToUser(user);
+                projectRepository.save(project);
+
+                List<Task> tasks = IntStream.range(0, TASKS_PER_PROJECT)
+                        .mapToObj(t -> new Task("Task " + t, "Seeded task " + t, LocalDate.now().plusDays(t % 30)))
+                        .toList();
+                List<Long> taskIds = taskService.createTasks(tasks, project.getId(), user.getId());
+
+                seeded.projectIds.add(project.getId());
+                seeded.taskIds.put(project.getId(), new ArrayList<>(taskIds));
+            }
+            users.add(seeded);
+        }
+    }
+
+    @Test
+    void measureEndpointLatencies() throws Exception {
+        run(WARMUP);
+        long started = System.nanoTime();
+        List<Map<String, Samples>> perWorker = run(DURATION);
+        double elapsedSeconds = (System.nanoTime() - started) / 1e9;
+
+        Map<String, Samples> merged = new LinkedHashMap<>();
+        for (Map<String, Samples> worker : perWorker) {
+            worker.forEach((endpoint, samples) -> merged.computeIfAbsent(endpoint, e -> new Samples()).addAll(samples));
+        }
+
+        List<EndpointResult> results = merged.entrySet().stream()
+                .map(e -> e.getValue().summarize(e.getKey(), elapsedSeconds))
+                .sorted((a, b) -> a.endpoint().compareTo(b.endpoint()))
+                .toList();
+        report(results, elapsedSeconds);
+
+        assertThat(results).extracting(EndpointResult::endpoint).contains(
+                "POST /api/auth/login", "GET /api/projects", "GET /api/tasks",
+                "PATCH /api/tasks/{id}/complete", "PUT /api/tasks/{id}", "DELETE /api/tasks/{id}");
+        assertThat(results).allSatisfy(r -> assertThat(r.errors()).as(r.endpoint() + " errors").isZero());
+    }
+
+    // Runs one worker per seeded user until the deadline, returning each worker's samples
+    private List<Map<String, Samples>> run(Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<Map<String, Samples>>> futures = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(users.size())) {
+            for (SeededUser user : users) {
+                futures.add(executor.submit(() -> work(user, deadline)));
+            }
+            List<Map<String, Samples>> results = new ArrayList<>();
+            for (Future<Map<String, Samples>> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        }
+    }
+
+    private Map<String, Samples> work(SeededUser user, long deadline) throws Exception {
+        Map<String, Samples> samples = new HashMap<>();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String token = login(user, samples);
+
+        while (System.nanoTime() < deadline) {
+            Long projectId = user.projectIds.get(random.nextInt(user.projectIds.size()));
+            List<Long> taskIds = user.taskIds.get(projectId);
+            int roll = random.nextInt(100);
+
+            if (roll < 2) {
+                token = login(user, samples);
+            } else if (roll < 15) {
+                send(samples, "GET /api/projects", get("/api/projects", token));
+            } else if (roll < 60) {
+                send(samples, "GET /api/tasks", get(taskListUri(projectId, random), token));
+            } else if (roll < 72 && !taskIds.isEmpty()) {
+                Long taskId = taskIds.get(random.nextInt(taskIds.size()));
+                send(samples, "PATCH /api/tasks/{id}/complete", authorized("/api/tasks/" + taskId + "/complete", token)
+                        .method("PATCH", HttpRequest.BodyPublishers.noBody()).build());
+            } else if (roll < 86 && !taskIds.isEmpty()) {
+                Long taskId = taskIds.get(random.nextInt(taskIds.size()));
+                send(samples, "PUT /api/tasks/{id}", authorized("/api/tasks/" + taskId, token)
+                        .PUT(json(Map.of("title", "Updated " + taskId, "description", "Edited under load",
+                                "dueDate", LocalDate.now().plusDays(7).toString())))
+                        .build());
+            } else if (roll < 93 && !taskIds.isEmpty()) {
+                Long taskId = taskIds.remove(random.nextInt(taskIds.size()));
+                send(samples, "DELETE /api/tasks/{id}", authorized("/api/tasks/" + taskId, token).DELETE().build());
+            } else {
+                // Replenish so deletes never drain the dataset during long runs
+                HttpResponse<String> response = send(samples, "POST /api/tasks",
+                        authorized("/api/tasks?projectId=" + projectId, token)
+                                .POST(json(Map.of("title", "Created under load", "description", "Load test")))
+                                .build());
+                if (response.statusCode() == 200) {
+                    taskIds.add(jsonMapper.readTree(response.body()).get("id").asLong());
+                }
+            }
+        }
+        return samples;
+    }
+
+    private String taskListUri(Long projectId, ThreadLocalRandom random) {
+        StringBuilder uri = new StringBuilder("/api/tasks?projectId=").append(projectId)
+                .append("&size=").append(PAGE_SIZE)
+                .append("&page=").append(random.nextInt(Math.max(1, TASKS_PER_PROJECT / PAGE_SIZE)));
+        switch (random.nextInt(4)) {
+            case 0 -> uri.append("&status=TODO");
+            case 1 -> uri.append("&status=DONE");
+            case 2 -> uri.append("&title=").append(random.nextInt(10));
+            default -> { }
+        }
+        return uri.toString();
+    }
+
+    private String login(SeededUser user, Map<String, Samples> samples) throws Exception {
+        HttpResponse<String> response = send(samples, "POST /api/auth/login",
+                HttpRequest.newBuilder(uri("/api/auth/login"))
+                        .header("Content-Type", "application/json")
+                        .POST(json(Map.of("email", user.email, "password", PASSWORD)))
+                        .build());
+        JsonNode body = jsonMapper.readTree(response.body());
+        return body.get("token").asString();
+    }
+
+    private HttpResponse<String> send(Map<String, Samples> samples, String endpoint, HttpRequest request)
+            throws Exception {
+        long start = System.nanoTime();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        samples.computeIfAbsent(endpoint, e -> new Samples())
+                .add(System.nanoTime() - start, response.statusCode() >= 400);
+        return response;
+    }
+
+    private HttpRequest get(String path, String token) {
+        return authorized(path, token).GET().build();
+    }
+
+    private HttpRequest.Builder authorized(String path, String token) {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json");
+    }
+
+    private HttpRequest.BodyPublisher json(Map<String, String> body) {
+        return HttpRequest.BodyPublishers.ofString(jsonMapper.writeValueAsString(body));
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private void report(List<EndpointResult> results, double elapsedSeconds) throws Exception {
+        System.out.printf("%nLoad test: %d users, %d projects/user, %d tasks/project, %.1f s%n",
+                USERS, PROJECTS_PER_USER, TASKS_PER_PROJECT, elapsedSeconds);
+        System.out.printf("%-32s %8s %8s %10s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms");
+        for (EndpointResult r : results) {
+            System.out.printf("%-32s %8d %8d %10.1f %9.2f %9.2f %9.2f%n",
+                    r.endpoint(), r.requests(), r.errors(), r.throughput(), r.p50Millis(), r.p95Millis(), r.p99Millis());
+        }
+
+        Path output = Path.of("target", "load-test", "results.json");
+        Files.createDirectories(output.getParent());
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("users", USERS);
+        document.put("projectsPerUser", PROJECTS_PER_USER);
+        document.put("tasksPerProject", TASKS_PER_PROJECT);
+        document.put("durationSeconds", elapsedSeconds);
+        document.put("endpoints", results);
+        jsonMapper.writerWithDefaultPrettyPrinter().writeValue(output.toFile(), document);
+    }
+
+    private static final class SeededUser {
+
+        private final String email;
+        private final List<Long> projectIds = new ArrayList<>();
+        private final Map<Long, List<Long>> taskIds = new HashMap<>();
+
+        private SeededUser(String email) {
+            this.email = email;
+        }
+    }
+
+    // Raw latencies of one endpoint; only touched by its worker until the final merge
+    private static final class Samples {
+
+        private long[] nanos = new long[1024];
+        private int count;
+        private int errors;
+
+        void add(long latencyNanos, boolean error) {
+            if (count == nanos.length) {
+                nanos = Arrays.copyOf(nanos, count * 2);
+            }
+            nanos[count++] = latencyNanos;
+            if (error) {
+                errors++;
+            }
+        }
+
+        void addAll(Samples other) {
+            for (int i = 0; i < other.count; i++) {
+                add(other.nanos[i], false);
+            }
+            errors += other.errors;
+        }
+
+        EndpointResult summarize(String endpoint, double elapsedSeconds) {
+            long[] sorted = Arrays.copyOf(nanos, count);
+            Arrays.sort(sorted);
+            return new EndpointResult(endpoint, count, errors, count / elapsedSeconds,
+                    percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99));
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1e6;
+        }
+    }
+
+    record EndpointResult(
+            String endpoint,
+            int requests,
+            int errors,
+            double throughput,
+            double p50Millis,
+            double p95Millis,
+            double p99Millis
+    ) {
+    }
+}
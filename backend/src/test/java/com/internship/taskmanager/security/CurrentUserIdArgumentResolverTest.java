@@ -0,0 +1,67 @@
+package com.internship.taskmanager.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.lang.reflect.Method;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CurrentUserIdArgumentResolverTest {
+
+    private final CurrentUserIdArgumentResolver resolver = new CurrentUserIdArgumentResolver();
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testSupportsOnlyAnnotatedLongParameters() throws Exception {
+        assertTrue(resolver.supportsParameter(parameter(0)));
+        assertFalse(resolver.supportsParameter(parameter(1)));
+        assertFalse(resolver.supportsParameter(parameter(2)));
+    }
+
+    @Test
+    void testResolvesIdFromAuthenticatedPrincipal() throws Exception {
+        AuthenticatedUser user = new AuthenticatedUser(42L, "user@example.com");
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+
+        assertEquals(42L, resolve());
+    }
+
+    @Test
+    void testRejectsRequestWithoutAuthenticatedUser() throws Exception {
+        assertThrows(SecurityException.class, this::resolve);
+
+        SecurityContextHolder.getContext().setAuthentication(new AnonymousAuthenticationToken(
+                "key", "anonymousUser", AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS")));
+        assertThrows(SecurityException.class, this::resolve);
+    }
+
+    private Object resolve() throws Exception {
+        return resolver.resolveArgument(parameter(0), null,
+                new ServletWebRequest(new MockHttpServletRequest()), null);
+    }
+
+    private static MethodParameter parameter(int index) throws NoSuchMethodException {
+        Method method = Handlers.class.getDeclaredMethod("handle", Long.class, Long.class, String.class);
+        return new MethodParameter(method, index);
+    }
+
+    @SuppressWarnings("unused")
+    private static final class Handlers {
+
+        void handle(@CurrentUserId Long userId, Long projectId, @CurrentUserId String wrongType) {
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.internship.taskmanager.security;
+
+import com.internship.taskmanager.common.logging.LogSampler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class JwtAuthenticationFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private JwtUtil jwtUtil;
+    private CustomUserDetailsService userDetailsService;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        jwtUtil = spy(new JwtUtil(meterRegistry));
+        userDetailsService = mock(CustomUserDetailsService.class);
+        filter = new JwtAuthenticationFilter(jwtUtil, userDetailsService, meterRegistry,
+                new LogSampler(10, Duration.ofSeconds(1)));
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testTokenWithUidClaimAuthenticatesWithoutUserLookup() throws Exception {
+        filter(jwtUtil.generateToken("user@example.com", 42L));
+
+        AuthenticatedUser principal = principal();
+        assertEquals(42L, principal.getId());
+        assertEquals("user@example.com", principal.getUsername());
+        verifyNoInteractions(userDetailsService);
+        assertEquals(1.0, outcome("authenticated"));
+    }
+
+    @Test
+    void testLegacyTokenWithoutUidFallsBackToEmailLookup() throws Exception {
+        String legacy = "legacy-token";
+        doReturn(Optional.of(new TokenClaims("old@example.com", null, Instant.now().plusSeconds(60))))
+                .when(jwtUtil).verify(legacy);
+        when(userDetailsService.loadPrincipal("old@example.com"))
+                .thenReturn(new AuthenticatedUser(7L, "old@example.com"));
+
+        filter(legacy);
+
+        assertEquals(7L, principal().getId());
+        verify(userDetailsService).loadPrincipal("old@example.com");
+    }
+
+    @Test
+    void testLegacyTokenOfDeletedUserIsRejected() throws Exception {
+        String legacy = "legacy-token";
+        doReturn(Optional.of(new TokenClaims("gone@example.com", null, Instant.now().plusSeconds(60))))
+                .when(jwtUtil).verify(legacy);
+        when(userDetailsService.loadPrincipal(anyString()))
+                .thenThrow(new UsernameNotFoundException("User not found: gone@example.com"));
+
+        filter(legacy);
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        assertEquals(1.0, outcome("rejected"));
+    }
+
+    @Test
+    void testInvalidOrMissingTokenLeavesRequestUnauthenticated() throws Exception {
+        filter("not-a-jwt");
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        assertEquals(1.0, outcome("rejected"));
+
+        filter(null);
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        assertEquals(1.0, outcome("absent"));
+        verifyNoInteractions(userDetailsService);
+    }
+
+    private void filter(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/projects");
+        if (token != null) {
+            request.addHeader("Authorization", "Bearer " + token);
+        }
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        // The filter never short-circuits: Spring Security decides what unauthenticated requests get
+        assertNotNull(chain.getRequest());
+    }
+
+    private AuthenticatedUser principal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertNotNull(authentication);
+        return assertInstanceOf(AuthenticatedUser.class, authentication.getPrincipal());
+    }
+
+    private double outcome(String outcome) {
+        return meterRegistry.get("auth.jwt.requests").tag("outcome", outcome).counter().count();
+    }
+}
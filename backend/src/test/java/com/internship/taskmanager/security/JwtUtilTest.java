@@ -0,0 +1,54 @@
+package com.internship.taskmanager.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtUtilTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        jwtUtil = new JwtUtil(meterRegistry);
+    }
+
+    @Test
+    void testTokenCarriesSubjectAndUserId() {
+        String token = jwtUtil.generateToken("user@example.com", 42L);
+
+        TokenClaims claims = jwtUtil.verify(token).orElseThrow();
+
+        assertEquals("user@example.com", claims.getSubject());
+        assertEquals(42L, claims.getUserId());
+        assertEquals("user@example.com", jwtUtil.extractUsername(token));
+        assertEquals(42L, jwtUtil.extractUserId(token));
+    }
+
+    @Test
+    void testRepeatedVerificationIsServedFromCache() {
+        String token = jwtUtil.generateToken("user@example.com", 42L);
+
+        jwtUtil.verify(token);
+        jwtUtil.verify(token);
+        jwtUtil.verify(token);
+
+        // Only the first call pays for signature verification
+        assertEquals(1, meterRegistry.get("jwt.verify").tag("result", "valid").timer().count());
+        assertTrue(meterRegistry.get("jwt.verified.tokens.hit.ratio").gauge().value() > 0.5);
+    }
+
+    @Test
+    void testTamperedTokenIsRejected() {
+        String token = jwtUtil.generateToken("user@example.com", 42L);
+        String tampered = token.substring(0, token.length() - 2) + "xx";
+
+        assertFalse(jwtUtil.isTokenValid(tampered));
+        assertFalse(jwtUtil.isTokenValid("not-a-token"));
+        assertEquals(2, meterRegistry.get("jwt.verify").tag("result", "invalid").timer().count());
+    }
+}
@@ -0,0 +1,39 @@
+package com.internship.taskmanager.support;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MockMvc matcher asserting how many SQL statements a request may send to the database, per kind.
+ * Counted at the DataSource by {@link StatementCountingConfiguration}, which the test must import,
+ * so JdbcTemplate writes are included alongside Hibernate's statements.
+ * <pre>
+ * mockMvc.perform(get("/api/projects")).andExpect(QueryBudget.selects(2));
+ * </pre>
+ */
+public final class QueryBudget {
+
+    private QueryBudget() {
+    }
+
+    public static ResultMatcher selects(int maxSelects) {
+        return atMost(maxSelects, 0, 0, 0);
+    }
+
+    public static ResultMatcher atMost(int maxSelects, int maxInserts, int maxUpdates, int maxDeletes) {
+        return result -> {
+            StatementCountingDataSource.Counts counts = (StatementCountingDataSource.Counts)
+                    result.getRequest().getAttribute(StatementCountingConfiguration.ATTRIBUTE);
+            assertThat(counts).as("statement counts (is StatementCountingConfiguration imported?)").isNotNull();
+
+            String actual = String.format("%s %s ran %d selects, %d inserts, %d updates, %d deletes",
+                    result.getRequest().getMethod(), result.getRequest().getRequestURI(),
+                    counts.getSelects(), counts.getInserts(), counts.getUpdates(), counts.getDeletes());
+            assertThat(counts.getSelects()).as(actual).isLessThanOrEqualTo(maxSelects);
+            assertThat(counts.getInserts()).as(actual).isLessThanOrEqualTo(maxInserts);
+            assertThat(counts.getUpdates()).as(actual).isLessThanOrEqualTo(maxUpdates);
+            assertThat(counts.getDeletes()).as(actual).isLessThanOrEqualTo(maxDeletes);
+        };
+    }
+}
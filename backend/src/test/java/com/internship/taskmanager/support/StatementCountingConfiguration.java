@@ -0,0 +1,50 @@
+package com.internship.taskmanager.support;
+
+import jakarta.servlet.Filter;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application DataSource in a {@link StatementCountingDataSource} and counts the statements
+ * of each MockMvc request, for {@link QueryBudget}. Import it into tests asserting query budgets.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class StatementCountingConfiguration {
+
+    // Request attribute holding the finished counts
+    static final String ATTRIBUTE = StatementCountingDataSource.Counts.class.getName();
+
+    // Static: post-processors are created before regular beans
+    @Bean
+    static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof StatementCountingDataSource)) {
+                    return new StatementCountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    FilterRegistrationBean<Filter> statementCountingFilter() {
+        Filter filter = (request, response, chain) -> {
+            request.setAttribute(ATTRIBUTE, StatementCountingDataSource.start());
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                StatementCountingDataSource.stop();
+            }
+        };
+        FilterRegistrationBean<Filter> registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -0,0 +1,137 @@
+package com.internship.taskmanager.support;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Counts every SQL statement sent through the DataSource on the current thread, by kind.
+ * Sits below Hibernate, so JdbcTemplate writes (counter adjustments, revision bumps) are counted
+ * alongside repository queries. A prepared statement counts once however many times it is batched.
+ */
+public class StatementCountingDataSource extends DelegatingDataSource {
+
+    private static final ThreadLocal<Counts> CURRENT = new ThreadLocal<>();
+
+    private static final Set<String> PREPARE = Set.of("prepareStatement", "prepareCall");
+    private static final Set<String> EXECUTE_SQL = Set.of("execute", "executeQuery", "executeUpdate",
+            "executeLargeUpdate", "addBatch");
+
+    public StatementCountingDataSource(DataSource target) {
+        super(target);
+    }
+
+    // Starts counting on this thread; statements outside a start/stop pair are not counted
+    public static Counts start() {
+        Counts counts = new Counts();
+        CURRENT.set(counts);
+        return counts;
+    }
+
+    public static void stop() {
+        CURRENT.remove();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return counting(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return counting(super.getConnection(username, password));
+    }
+
+    private static Connection counting(Connection connection) {
+        return proxy(Connection.class, connection, (method, args) -> {
+            if (PREPARE.contains(method.getName()) && args != null && args[0] instanceof String sql) {
+                record(sql);
+            }
+        }, true);
+    }
+
+    // Plain statements carry their SQL on execute rather than on creation
+    private static Statement countingStatement(Statement statement) {
+        return proxy(Statement.class, statement, (method, args) -> {
+            if (EXECUTE_SQL.contains(method.getName()) && args != null && args.length > 0
+                    && args[0] instanceof String sql) {
+                record(sql);
+            }
+        }, false);
+    }
+
+    private static void record(String sql) {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.record(sql);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, Observer observer, boolean wrapStatements) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            observer.before(method, args);
+            try {
+                Object result = method.invoke(target, args);
+                if (wrapStatements && "createStatement".equals(method.getName())) {
+                    return countingStatement((Statement) result);
+                }
+                return result;
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        };
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, handler);
+    }
+
+    private interface Observer {
+        void before(Method method, Object[] args);
+    }
+
+    /**
+     * Statements counted between {@link #start()} and {@link #stop()}.
+     */
+    public static final class Counts {
+
+        private int selects;
+        private int inserts;
+        private int updates;
+        private int deletes;
+
+        void record(String sql) {
+            String keyword = sql.stripLeading().split("[\\s(]", 2)[0].toLowerCase(Locale.ROOT);
+            switch (keyword) {
+                case "select", "with" -> selects++;
+                case "insert" -> inserts++;
+                case "update", "merge" -> updates++;
+                case "delete" -> deletes++;
+                default -> { }
+            }
+        }
+
+        public int getSelects() {
+            return selects;
+        }
+
+        public int getInserts() {
+            return inserts;
+        }
+
+        public int getUpdates() {
+            return updates;
+        }
+
+        public int getDeletes() {
+            return deletes;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.internship.taskmanager.web.controller;
+
+import com.internship.taskmanager.application.service.TaskService;
+import com.internship.taskmanager.domain.entity.Project;
+import com.internship.taskmanager.domain.entity.Task;
+import com.internship.taskmanager.domain.entity.User;
+import com.internship.taskmanager.domain.repository.ProjectRepository;
+import com.internship.taskmanager.domain.repository.UserRepository;
+import com.internship.taskmanager.security.JwtUtil;
+import com.internship.taskmanager.support.StatementCountingConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.List;
+import java.util.UUID;
+
+import static com.internship.taskmanager.support.QueryBudget.selects;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(StatementCountingConfiguration.class)
+class ConditionalGetIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private String token;
+    private Long projectId;
+    private List<Long> taskIds;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(new User(UUID.randomUUID() + "@example.com", "pass"));
+        Project project = new Project("Polled", "Desc");
+        project.assignToUser(user);
+        projectId = projectRepository.save(project).getId();
+        taskIds = taskService.createTasks(List.of(
+                new Task("Task 1", "Desc", null),
+                new Task("Task 2", "Desc", null),
+                new Task("Task 3", "Desc", null)
+        ), projectId, user.getId());
+        token = jwtUtil.generateToken(user.getEmail(), user.getId());
+    }
+
+    @Test
+    void testUnchangedTaskListIsRevalidatedWithOneLookupAndEveryMutationChangesTheETag() throws Exception {
+        String etag = tasksETag();
+
+        mockMvc.perform(authorized(get("/api/tasks")).param("projectId", projectId.toString())
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""))
+                .andExpect(selects(1));
+
+        mockMvc.perform(authorized(patch("/api/tasks/{id}/complete", taskIds.get(0))))
+                .andExpect(status().isOk());
+        etag = assertChanged(etag);
+
+        mockMvc.perform(authorized(put("/api/tasks/{id}", taskIds.get(1)))
+                        .content("{\"title\":\"Renamed\",\"description\":\"Desc\"}"))
+                .andExpect(status().isOk());
+        etag = assertChanged(etag);
+
+        mockMvc.perform(authorized(delete("/api/tasks/{id}", taskIds.get(2))))
+                .andExpect(status().isNoContent());
+        assertChanged(etag);
+    }
+
+    @Test
+    void testProjectListETagFollowsProjectWrites() throws Exception {
+        String etag = projectsETag();
+
+        // Served from the read model: no query at all
+        mockMvc.perform(authorized(get("/api/projects")).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(selects(0));
+
+        mockMvc.perform(authorized(put("/api/projects/{id}", projectId))
+                        .content("{\"title\":\"Renamed\",\"description\":\"Desc\"}"))
+                .andExpect(status().isOk());
+        String renamed = projectsETag();
+        assertThat(renamed).isNotEqualTo(etag);
+
+        mockMvc.perform(authorized(delete("/api/projects/{id}", projectId)))
+                .andExpect(status().isNoContent());
+        assertThat(projectsETag()).isNotEqualTo(renamed);
+    }
+
+    @Test
+    void testForeignProjectIsRejectedBeforeAnyETagComparison() throws Exception {
+        String foreignToken = jwtUtil.generateToken("other@example.com", -1L);
+
+        mockMvc.perform(get("/api/tasks").param("projectId", projectId.toString())
+                        .header("Authorization", "Bearer " + foreignToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, "*"))
+                .andExpect(status().isForbidden());
+    }
+
+    // The tasks ETag changed since the given one; returns the new one
+    private String assertChanged(String previous) throws Exception {
+        mockMvc.perform(authorized(get("/api/tasks")).param("projectId", projectId.toString())
+                        .header(HttpHeaders.IF_NONE_MATCH, previous))
+                .andExpect(status().isOk());
+        String current = tasksETag();
+        assertThat(current).isNotEqualTo(previous);
+        return current;
+    }
+
+    private String tasksETag() throws Exception {
+        return mockMvc.perform(authorized(get("/api/tasks")).param("projectId", projectId.toString()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    private String projectsETag() throws Exception {
+        return mockMvc.perform(authorized(get("/api/projects")))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) {
+        return request.header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON);
+    }
+}
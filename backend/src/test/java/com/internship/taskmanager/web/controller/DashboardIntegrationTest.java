@@ -0,0 +1,121 @@
+package com.internship.taskmanager.web.controller;
+
+import com.internship.taskmanager.application.service.TaskService;
+import com.internship.taskmanager.domain.entity.Project;
+import com.internship.taskmanager.domain.entity.Task;
+import com.internship.taskmanager.domain.entity.User;
+import com.internship.taskmanager.domain.repository.ProjectRepository;
+import com.internship.taskmanager.domain.repository.UserRepository;
+import com.internship.taskmanager.security.JwtUtil;
+import com.internship.taskmanager.support.StatementCountingConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static com.internship.taskmanager.support.QueryBudget.selects;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(StatementCountingConfiguration.class)
+class DashboardIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private String token;
+    private List<Long> taskIds;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(new User(UUID.randomUUID() + "@example.com", "pass"));
+        Long busy = saveProject(user, "Busy");
+        saveProject(user, "Empty");
+
+        LocalDate today = LocalDate.now();
+        taskIds = taskService.createTasks(List.of(
+                new Task("Overdue", "Desc", today.minusDays(2)),
+                new Task("Due today", "Desc", today),
+                new Task("Due in six days", "Desc", today.plusDays(6)),
+                new Task("Due next week", "Desc", today.plusDays(7)),
+                new Task("No due date", "Desc", null)
+        ), busy, user.getId());
+        taskService.completeTask(taskIds.get(4), user.getId(), null);
+
+        token = jwtUtil.generateToken(user.getEmail(), user.getId());
+    }
+
+    @Test
+    void testDashboardAggregatesPerProjectAndGlobally() throws Exception {
+        mockMvc.perform(authorized(get("/api/dashboard")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.projectCount").value(2))
+                .andExpect(jsonPath("$.projects[0].title").value("Busy"))
+                .andExpect(jsonPath("$.projects[0].totalTasks").value(5))
+                .andExpect(jsonPath("$.projects[0].doneTasks").value(1))
+                .andExpect(jsonPath("$.projects[0].overdueTasks").value(1))
+                .andExpect(jsonPath("$.projects[0].dueThisWeekTasks").value(2))
+                .andExpect(jsonPath("$.projects[0].progressPercentage").value(20))
+                .andExpect(jsonPath("$.projects[1].title").value("Empty"))
+                .andExpect(jsonPath("$.projects[1].totalTasks").value(0))
+                .andExpect(jsonPath("$.totalTasks").value(5))
+                .andExpect(jsonPath("$.overdueTasks").value(1))
+                .andExpect(jsonPath("$.dueThisWeekTasks").value(2));
+    }
+
+    @Test
+    void testCachedDashboardIsServedWithOneLookupUntilATaskChanges() throws Exception {
+        mockMvc.perform(authorized(get("/api/dashboard")))
+                .andExpect(status().isOk())
+                .andExpect(selects(2));
+        mockMvc.perform(authorized(get("/api/dashboard")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.overdueTasks").value(1))
+                .andExpect(selects(1));
+
+        mockMvc.perform(authorized(patch("/api/tasks/{id}/complete", taskIds.get(0))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(authorized(get("/api/dashboard")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.overdueTasks").value(0))
+                .andExpect(jsonPath("$.doneTasks").value(2))
+                .andExpect(selects(2));
+    }
+
+    private Long saveProject(User user, String title) {
+        Project project = new Project(title, "Desc");
+        project.assignToUser(user);
+        return projectRepository.save(project).getId();
+    }
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) {
+        return request.header("Authorization", "Bearer " + token);
+    }
+}
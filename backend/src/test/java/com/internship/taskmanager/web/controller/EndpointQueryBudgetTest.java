@@ -0,0 +1,194 @@
+package com.internship.taskmanager.web.controller;
+
+import com.internship.taskmanager.application.service.TaskService;
+import com.internship.taskmanager.domain.entity.Project;
+import com.internship.taskmanager.domain.entity.Task;
+import com.internship.taskmanager.domain.entity.User;
+import com.internship.taskmanager.domain.repository.ProjectRepository;
+import com.internship.taskmanager.domain.repository.UserRepository;
+import com.internship.taskmanager.security.JwtUtil;
+import com.internship.taskmanager.support.StatementCountingConfiguration;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.internship.taskmanager.support.QueryBudget.atMost;
+import static com.internship.taskmanager.support.QueryBudget.selects;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Per-endpoint SQL budgets: a fetch regression (N+1, extra ownership lookups) fails here instead of in production.
+ * Budgets hold regardless of collection sizes, hence the 50 projects and 60 tasks.
+ * Statements are counted at the DataSource, so JdbcTemplate counter and revision writes are included;
+ * write budgets are the exact statement counts.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(StatementCountingConfiguration.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EndpointQueryBudgetTest {
+
+    private static final int PROJECTS = 50;
+    private static final int TASKS = 60;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private String token;
+    private Long projectId;
+    private final List<Long> projectIds = new ArrayList<>();
+    private final List<Long> taskIds = new ArrayList<>();
+
+    @BeforeAll
+    void seed() {
+        User user = userRepository.save(new User("budget@example.com", passwordEncoder.encode("secret")));
+        for (int i = 0; i < PROJECTS; i++) {
+            Project project = new Project("Project " + i, "Desc");
+            project.assignToUser(user);
+            projectIds.add(projectRepository.save(project).getId());
+        }
+        projectId = projectIds.get(0);
+        taskIds.addAll(taskService.createTasks(IntStream.range(0, TASKS)
+                .mapToObj(i -> new Task("Task " + i, "Desc", null))
+                .toList(), projectId, user.getId()));
+        token = jwtUtil.generateToken(user.getEmail(), user.getId());
+    }
+
+    @Test
+    void testLoginBudget() throws Exception {
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"budget@example.com\",\"password\":\"secret\"}"))
+                .andExpect(status().isOk())
+                .andExpect(selects(1));
+    }
+
+    @Test
+    void testProjectReadBudgets() throws Exception {
+        // Read model: at most one load of all 50 projects (no per-project task loading), then no query at all
+        mockMvc.perform(authorized(get("/api/projects")))
+                .andExpect(status().isOk())
+                .andExpect(selects(1));
+        mockMvc.perform(authorized(get("/api/projects")))
+                .andExpect(status().isOk())
+                .andExpect(selects(0));
+        mockMvc.perform(authorized(get("/api/projects/{id}/progress", projectId)))
+                .andExpect(status().isOk())
+                .andExpect(selects(1));
+        // List version + one grouped query over all projects' tasks
+        mockMvc.perform(authorized(get("/api/dashboard")))
+                .andExpect(status().isOk())
+                .andExpect(selects(2));
+    }
+
+    @Test
+    void testProjectWriteBudgets() throws Exception {
+        // Creates and updates include the read model projection of the written project;
+        // the insert may also fetch the next id block from the pooled sequence
+        mockMvc.perform(authorized(post("/api/projects"))
+                        .content("{\"title\":\"Budgeted\",\"description\":\"Desc\"}"))
+                .andExpect(status().isOk())
+                .andExpect(atMost(3, 1, 0, 0));
+        // Entity update + revision bump
+        mockMvc.perform(authorized(put("/api/projects/{id}", projectIds.get(1)))
+                        .content("{\"title\":\"Renamed\",\"description\":\"Desc\"}"))
+                .andExpect(status().isOk())
+                .andExpect(atMost(2, 0, 2, 0));
+        // Soft delete + revision bump
+        mockMvc.perform(authorized(delete("/api/projects/{id}", projectIds.get(2))))
+                .andExpect(status().isNoContent())
+                .andExpect(atMost(1, 0, 2, 0));
+    }
+
+    @Test
+    void testTaskReadBudgets() throws Exception {
+        mockMvc.perform(authorized(get("/api/tasks"))
+                        .param("projectId", projectId.toString())
+                        .param("status", "TODO")
+                        .param("title", "task")
+                        .param("page", "1")
+                        .param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(selects(3));
+        mockMvc.perform(authorized(get("/api/tasks/scroll"))
+                        .param("projectId", projectId.toString())
+                        .param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(selects(2));
+        mockMvc.perform(authorized(get("/api/tasks/search"))
+                        .param("projectId", projectId.toString())
+                        .param("q", "task"))
+                .andExpect(status().isOk())
+                .andExpect(selects(2));
+    }
+
+    @Test
+    void testTaskWriteBudgets() throws Exception {
+        // Inserts may also fetch the next id block from the pooled sequence; every write includes
+        // the read model projection of its project and one counter/revision UPDATE of that project
+        mockMvc.perform(authorized(post("/api/tasks"))
+                        .param("projectId", projectId.toString())
+                        .content("{\"title\":\"Budgeted\",\"description\":\"Desc\"}"))
+                .andExpect(status().isOk())
+                .andExpect(atMost(3, 1, 1, 0));
+        // One JDBC batch for all three rows
+        mockMvc.perform(authorized(post("/api/tasks/batch"))
+                        .param("projectId", projectId.toString())
+                        .content("{\"tasks\":[{\"title\":\"A\"},{\"title\":\"B\"},{\"title\":\"C\"}]}"))
+                .andExpect(status().isOk())
+                .andExpect(atMost(3, 1, 1, 0));
+        mockMvc.perform(authorized(patch("/api/tasks/{id}/complete", taskIds.get(0))))
+                .andExpect(status().isOk())
+                .andExpect(atMost(2, 0, 2, 0));
+        mockMvc.perform(authorized(put("/api/tasks/{id}", taskIds.get(1)))
+                        .content("{\"title\":\"Edited\",\"description\":\"Desc\"}"))
+                .andExpect(status().isOk())
+                .andExpect(atMost(2, 0, 2, 0));
+        mockMvc.perform(authorized(patch("/api/tasks/status"))
+                        .content("{\"status\":\"DONE\",\"taskIds\":[" + taskIds.get(2) + "," + taskIds.get(3) + "]}"))
+                .andExpect(status().isOk())
+                .andExpect(atMost(2, 0, 2, 0));
+        mockMvc.perform(authorized(delete("/api/tasks/{id}", taskIds.get(4))))
+                .andExpect(status().isNoContent())
+                .andExpect(atMost(2, 0, 1, 1));
+    }
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) {
+        return request.header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON);
+    }
+}
@@ -0,0 +1,146 @@
+package com.internship.taskmanager.web.controller;
+
+import com.internship.taskmanager.application.service.TaskService;
+import com.internship.taskmanager.domain.entity.Project;
+import com.internship.taskmanager.domain.entity.Task;
+import com.internship.taskmanager.domain.entity.User;
+import com.internship.taskmanager.domain.repository.ProjectRepository;
+import com.internship.taskmanager.domain.repository.UserRepository;
+import com.internship.taskmanager.security.JwtUtil;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.RollbackException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class OptimisticConcurrencyIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private String token;
+    private Long userId;
+    private Long projectId;
+    private Long taskId;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(new User(UUID.randomUUID() + "@example.com", "pass"));
+        Project project = new Project("Shared", "Desc");
+        project.assignToUser(user);
+        userId = user.getId();
+        projectId = projectRepository.save(project).getId();
+        taskId = taskService.createTasks(
+                List.of(new Task("Task", "Desc", null)), projectId, userId).get(0);
+        token = jwtUtil.generateToken(user.getEmail(), user.getId());
+    }
+
+    @Test
+    void testStaleIfMatchOnTaskUpdateIsRejectedWith412() throws Exception {
+        String etag = mockMvc.perform(authorized(put("/api/tasks/{id}", taskId))
+                        .content("{\"title\":\"First\",\"description\":\"Desc\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(authorized(put("/api/tasks/{id}", taskId))
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .content("{\"title\":\"Second\",\"description\":\"Desc\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Second"));
+
+        // Client still editing the copy behind the first ETag
+        mockMvc.perform(authorized(patch("/api/tasks/{id}/complete", taskId))
+                        .header(HttpHeaders.IF_MATCH, etag))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(authorized(get("/api/tasks")).param("projectId", projectId.toString()))
+                .andExpect(jsonPath("$.content[0].title").value("Second"))
+                .andExpect(jsonPath("$.content[0].status").value("TODO"));
+    }
+
+    @Test
+    void testProjectUpdateReturnsVersionAndHonoursIfMatch() throws Exception {
+        mockMvc.perform(authorized(put("/api/projects/{id}", projectId))
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .content("{\"title\":\"Renamed\",\"description\":\"Desc\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                .andExpect(jsonPath("$.version").value(1));
+
+        mockMvc.perform(authorized(put("/api/projects/{id}", projectId))
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .content("{\"title\":\"Lost update\",\"description\":\"Desc\"}"))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(authorized(put("/api/projects/{id}", projectId))
+                        .header(HttpHeaders.IF_MATCH, "not-a-tag")
+                        .content("{\"title\":\"Renamed\",\"description\":\"Desc\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testConcurrentWriteOfLoadedCopyFailsOnVersionCheck() {
+        EntityManager em = entityManagerFactory.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            Task stale = em.find(Task.class, taskId);
+
+            // Another request commits in between
+            taskService.updateTask(taskId, "Winner", "Desc", null, userId, null);
+
+            stale.update("Loser", "Desc", null);
+            assertThatThrownBy(() -> em.getTransaction().commit())
+                    .isInstanceOf(RollbackException.class)
+                    .hasCauseInstanceOf(OptimisticLockException.class);
+        } finally {
+            em.close();
+        }
+        assertThat(taskService.getTasksByProjectWithFilters(projectId, null, null, 0, 10, userId)
+                .getContent().get(0).getTitle()).isEqualTo("Winner");
+    }
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) {
+        return request.header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON);
+    }
+}
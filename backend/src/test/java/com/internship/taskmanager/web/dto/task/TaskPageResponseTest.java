@@ -0,0 +1,54 @@
+package com.internship.taskmanager.web.dto.task;
+
+import com.internship.taskmanager.domain.entity.Task;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskPageResponseTest {
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    @Test
+    void testEnvelopeHoldsTasksAsTaskResponsesPlusMinimalPaging() {
+        Task dated = new Task("Dated", "Desc", LocalDate.of(2026, 3, 1));
+        dated.markAsCompleted();
+        Task undated = new Task("Undated", null, null);
+        List<Task> tasks = List.of(dated, undated);
+
+        JsonNode envelope = jsonMapper.readTree(jsonMapper.writeValueAsString(
+                new TaskPageResponse(new PageImpl<>(tasks, PageRequest.of(1, 2), 7))));
+
+        assertThat(envelope.propertyNames())
+                .containsExactly("content", "page", "size", "totalElements", "totalPages");
+        assertThat(envelope.get("page").asInt()).isEqualTo(1);
+        assertThat(envelope.get("size").asInt()).isEqualTo(2);
+        assertThat(envelope.get("totalElements").asLong()).isEqualTo(7);
+        assertThat(envelope.get("totalPages").asInt()).isEqualTo(4);
+        // Same item format as the DTO the endpoint used to map every task to
+        assertThat(envelope.get("content").toString()).isEqualTo(
+                jsonMapper.writeValueAsString(tasks.stream().map(TaskResponse::from).toList()));
+    }
+
+    @Test
+    void testOneTaskIsWrittenIdenticallyInBothRepresentations() {
+        Task task = new Task("Persisted", "Desc", LocalDate.of(2026, 5, 4));
+        ReflectionTestUtils.setField(task, "id", 42L);
+        task.markAsCompleted();
+
+        JsonNode envelope = jsonMapper.readTree(jsonMapper.writeValueAsString(
+                new TaskPageResponse(new PageImpl<>(List.of(task)))));
+
+        assertThat(envelope.get("content").get(0).toString())
+                .isEqualTo(jsonMapper.writeValueAsString(TaskResponse.from(task)));
+        assertThat(envelope.get("content").get(0).get("id").asLong()).isEqualTo(42);
+    }
+}
@@ -0,0 +1,67 @@
+package com.internship.taskmanager.benchmarks;
+
+import com.internship.taskmanager.security.JwtUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue and verification as done by AuthController and JwtAuthenticationFilter.
+ * The cached variants hit JwtUtil's verified-token cache; the cold variant forces a full
+ * HMAC check and parse on every call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    // More tokens than one measurement iteration can consume, so the cold path never repeats
+    private static final int COLD_TOKENS = 200_000;
+
+    private JwtUtil jwtUtil;
+    private String token;
+    private String[] coldTokens;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void createTokens() {
+        JwtUtil issuer = new JwtUtil(new SimpleMeterRegistry());
+        token = issuer.generateToken("bench@example.com", 42L);
+        coldTokens = new String[COLD_TOKENS];
+        for (int i = 0; i < COLD_TOKENS; i++) {
+            coldTokens[i] = issuer.generateToken("user" + i + "@example.com", (long) i);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void resetCache() {
+        // A fresh instance starts with an empty verified-token cache
+        jwtUtil = new JwtUtil(new SimpleMeterRegistry());
+        jwtUtil.isTokenValid(token);
+        next = 0;
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken("bench@example.com", 42L);
+    }
+
+    @Benchmark
+    public boolean isTokenValidCached() {
+        return jwtUtil.isTokenValid(token);
+    }
+
+    @Benchmark
+    public String extractUsernameCached() {
+        return jwtUtil.extractUsername(token);
+    }
+
+    @Benchmark
+    public boolean isTokenValidCold() {
+        return jwtUtil.isTokenValid(coldTokens[next++ % COLD_TOKENS]);
+    }
+}
@@ -0,0 +1,103 @@
+package com.internship.taskmanager.benchmarks;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.internship.taskmanager.common.logging.LogSampler;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request log output from many request threads at once: the old synchronized System.out
+ * println versus the async appender from logback-spring.xml, a level-gated debug line, and a
+ * sampled auth-failure warning. Both sinks write to /dev/null so only the logging path is measured.
+ * The request-path lines are now debugBelowLevel / sampledAuthFailure; asyncAppenderInfo shows the
+ * hand-off cost of an emitted event and needs a spare core for the appender's worker thread.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class LoggingContentionBenchmark {
+
+    private PrintStream console;
+    private LoggerContext context;
+    private Logger logger;
+    private LogSampler sampler;
+
+    @Setup
+    public void setUp() throws FileNotFoundException {
+        // Same shape as System.out: autoflushing, synchronized PrintStream over a file descriptor
+        console = new PrintStream(new FileOutputStream("/dev/null"), true);
+
+        context = new LoggerContext();
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d %5level [%thread] %logger{40} : %msg %kvp%n");
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> sink = new OutputStreamAppender<>();
+        sink.setContext(context);
+        sink.setEncoder(encoder);
+        sink.setOutputStream(new FileOutputStream("/dev/null"));
+        sink.start();
+
+        AsyncAppender async = new AsyncAppender();
+        async.setContext(context);
+        async.setQueueSize(8192);
+        async.setNeverBlock(true);
+        async.setIncludeCallerData(false);
+        async.addAppender(sink);
+        async.start();
+
+        logger = context.getLogger("com.internship.taskmanager.security.JwtAuthenticationFilter");
+        logger.setLevel(Level.INFO);
+        logger.setAdditive(false);
+        logger.addAppender(async);
+
+        sampler = new LogSampler(10, Duration.ofSeconds(1));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.stop();
+        console.close();
+    }
+
+    @Benchmark
+    public void systemOutPrintln() {
+        console.println("DEBUG: No Bearer token found in request to " + "/api/tasks");
+    }
+
+    @Benchmark
+    public void asyncAppenderInfo() {
+        logger.info("No bearer token on {} {}", "GET", "/api/tasks");
+    }
+
+    @Benchmark
+    public void debugBelowLevel() {
+        logger.debug("No bearer token on {} {}", "GET", "/api/tasks");
+    }
+
+    @Benchmark
+    public void sampledAuthFailure() {
+        if (sampler.tryAcquire()) {
+            logger.atWarn()
+                    .addKeyValue("path", "/api/tasks")
+                    .addKeyValue("suppressed", sampler.takeSuppressed())
+                    .log("Rejected invalid or expired bearer token");
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.internship.taskmanager.benchmarks;
+
+import com.internship.taskmanager.domain.entity.Task;
+import com.internship.taskmanager.web.dto.task.TaskPageResponse;
+import com.internship.taskmanager.web.dto.task.TaskResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Response body of GET /api/tasks: the previous Page&lt;TaskResponse&gt; (PageImpl with its pageable
+ * and sort metadata, one DTO per task) versus the streamed TaskPageResponse envelope. Both write
+ * into a counting sink, as the message converter writes into the servlet stream; run with
+ * -prof gc for allocation per request (gc.alloc.rate.norm). Body sizes are printed at setup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PageEnvelopeBenchmark {
+
+    @Param({"10", "100"})
+    private int pageSize;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final CountingOutputStream sink = new CountingOutputStream();
+
+    private Page<Task> page;
+
+    @Setup
+    public void setUp() {
+        List<Task> tasks = IntStream.range(0, pageSize)
+                .mapToObj(i -> {
+                    Task task = new Task("Task " + i, "Description of task " + i, LocalDate.now().plusDays(i));
+                    if (i % 3 == 0) {
+                        task.markAsCompleted();
+                    }
+                    return task;
+                })
+                .toList();
+        page = new PageImpl<>(tasks, PageRequest.of(0, pageSize), pageSize * 25L);
+
+        System.out.printf("%nbytes/response (pageSize=%d): pageImpl=%d, envelope=%d%n", pageSize,
+                jsonMapper.writeValueAsBytes(page.map(TaskResponse::from)).length,
+                jsonMapper.writeValueAsBytes(new TaskPageResponse(page)).length);
+    }
+
+    @Benchmark
+    public long pageImpl() {
+        sink.reset();
+        jsonMapper.writeValue(sink, page.map(TaskResponse::from));
+        return sink.count;
+    }
+
+    @Benchmark
+    public long envelope() {
+        sink.reset();
+        jsonMapper.writeValue(sink, new TaskPageResponse(page));
+        return sink.count;
+    }
+
+    // Discards the body, keeping only its size
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        void reset() {
+            count = 0;
+        }
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+
+        @Override
+        public void close() {
+            // writeValue closes the target; keep the sink usable
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.internship.taskmanager.benchmarks;
+
+import com.internship.taskmanager.domain.entity.Project;
+import com.internship.taskmanager.domain.entity.Task;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Project#getProgressPercentage walks the whole task collection on every call;
+ * the sizes show how that cost grows compared to the counter-based ProjectSummary.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProgressPercentageBenchmark {
+
+    @Param({"0", "10", "1000", "100000"})
+    private int taskCount;
+
+    private Project project;
+
+    @Setup
+    public void setUp() {
+        project = new Project("Project", "Desc");
+        for (int i = 0; i < taskCount; i++) {
+            Task task = new Task("Task " + i, "Desc", null);
+            if (i % 2 == 0) {
+                task.markAsCompleted();
+            }
+            project.getTasks().add(task);
+        }
+    }
+
+    @Benchmark
+    public int progressPercentage() {
+        return project.getProgressPercentage();
+    }
+}
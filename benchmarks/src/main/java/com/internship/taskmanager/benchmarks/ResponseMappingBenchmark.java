@@ -0,0 +1,123 @@
+package com.internship.taskmanager.benchmarks;
+
+import com.internship.taskmanager.domain.entity.Task;
+import com.internship.taskmanager.domain.repository.ProjectSummary;
+import com.internship.taskmanager.web.dto.project.ProjectResponse;
+import com.internship.taskmanager.web.dto.task.TaskResponse;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Entity/projection to DTO mapping and JSON serialization for one page of results,
+ * i.e. the per-request work of GET /api/tasks and GET /api/projects after the query returns.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseMappingBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    private List<Task> tasks;
+    private List<ProjectSummary> projects;
+    private List<TaskResponse> taskResponses;
+    private List<ProjectResponse> projectResponses;
+
+    @Setup
+    public void setUp() {
+        tasks = IntStream.range(0, pageSize)
+                .mapToObj(i -> {
+                    Task task = new Task("Task " + i, "Description of task " + i, LocalDate.now().plusDays(i));
+                    if (i % 3 == 0) {
+                        task.markAsCompleted();
+                    }
+                    return task;
+                })
+                .toList();
+        projects = IntStream.range(0, pageSize)
+                .mapToObj(i -> (ProjectSummary) new Summary((long) i, "Project " + i, "Description of project " + i, 40, i % 40))
+                .toList();
+        taskResponses = tasks.stream().map(TaskResponse::from).toList();
+        projectResponses = projects.stream().map(ProjectResponse::from).toList();
+    }
+
+    @Benchmark
+    public List<TaskResponse> mapTasks() {
+        return tasks.stream().map(TaskResponse::from).toList();
+    }
+
+    @Benchmark
+    public List<ProjectResponse> mapProjects() {
+        return projects.stream().map(ProjectResponse::from).toList();
+    }
+
+    @Benchmark
+    public byte[] serializeTasks() {
+        return jsonMapper.writeValueAsBytes(taskResponses);
+    }
+
+    @Benchmark
+    public byte[] serializeProjects() {
+        return jsonMapper.writeValueAsBytes(projectResponses);
+    }
+
+    @Benchmark
+    public byte[] mapAndSerializeTasks() {
+        return jsonMapper.writeValueAsBytes(tasks.stream().map(TaskResponse::from).toList());
+    }
+
+    private record Summary(Long id, String title, String description, long totalTasks, long completedTasks)
+            implements ProjectSummary {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public Long getOwnerId() {
+            return 1L;
+        }
+
+        @Override
+        public String getTitle() {
+            return title;
+        }
+
+        @Override
+        public String getDescription() {
+            return description;
+        }
+
+        @Override
+        public long getTotalTasks() {
+            return totalTasks;
+        }
+
+        @Override
+        public long getCompletedTasks() {
+            return completedTasks;
+        }
+
+        @Override
+        public long getVersion() {
+            return 1;
+        }
+
+        @Override
+        public long getRevision() {
+            return 1;
+        }
+    }
+}